@@ -0,0 +1,44 @@
+#ifdef GL_ES
+precision mediump float;
+#endif
+
+varying vec4 v_color;
+varying vec2 v_texCoords;
+
+uniform sampler2D u_texture;
+
+// The mask of an ETC1 compressed spritesheet, the alpha in alpha and the team color key in luminance,
+// used when u_masked is 1
+uniform sampler2D u_mask;
+uniform float u_masked;
+
+// The team color key of the vessel spritesheets, rgb(90, 172, 222)
+const vec3 KEY = vec3(0.352941, 0.674510, 0.870588);
+
+const float TOLERANCE = 0.006;
+
+void main() {
+    vec4 texel = texture2D(u_texture, v_texCoords);
+    bool key = texel.a > 0.999 && all(lessThan(abs(texel.rgb - KEY), vec3(TOLERANCE)));
+
+    // compressed spritesheets have no alpha and no exact key color, both come from the mask
+    if (u_masked > 0.5) {
+        vec4 mask = texture2D(u_mask, v_texCoords);
+        texel.a = mask.a;
+        key = mask.r > 0.5;
+    }
+
+    // A tinted draw swaps the key color for the tint and keeps all other texels,
+    // an untinted (white) draw behaves like the default batch shader
+    if (any(lessThan(v_color.rgb, vec3(0.999)))) {
+        if (key) {
+            gl_FragColor = vec4(v_color.rgb, v_color.a * texel.a);
+        }
+        else {
+            gl_FragColor = vec4(texel.rgb, texel.a * v_color.a);
+        }
+    }
+    else {
+        gl_FragColor = v_color * texel;
+    }
+}
@@ -0,0 +1,22 @@
+#ifdef GL_ES
+precision mediump float;
+#endif
+
+varying vec4 v_color;
+varying vec2 v_texCoords;
+
+uniform sampler2D u_texture;
+
+// The wave phase in radians, wraps around every 2 pi
+uniform float u_time;
+
+// How far the waves shift the sea texture, in texture repeats
+const float AMPLITUDE = 0.006;
+
+// Waves per texture repeat
+const float FREQUENCY = 6.283185;
+
+void main() {
+    vec2 offset = vec2(sin(v_texCoords.y * FREQUENCY + u_time), cos(v_texCoords.x * FREQUENCY + u_time)) * AMPLITUDE;
+    gl_FragColor = v_color * texture2D(u_texture, v_texCoords + offset);
+}
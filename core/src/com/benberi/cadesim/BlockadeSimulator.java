@@ -4,6 +4,9 @@ import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.benberi.cadesim.game.scene.GameScene;
+import com.benberi.cadesim.util.AllocationProbe;
+
+import java.util.List;
 
 public class BlockadeSimulator extends ApplicationAdapter {
 
@@ -12,10 +15,21 @@ public class BlockadeSimulator extends ApplicationAdapter {
 	 */
 	private GameContext context;
 
+	/**
+	 * Reports frames that allocate past {@link Constants#ALLOCATION_BUDGET}, when {@link Constants#ALLOCATION_DEBUG} is on
+	 */
+	private AllocationProbe allocations;
+
 	@Override
 	public void create () {
 		context = new GameContext(this);
 		context.create();
+		if (Constants.ALLOCATION_DEBUG) {
+			allocations = new AllocationProbe(Constants.ALLOCATION_BUDGET, Constants.ALLOCATION_CHECK_FRAMES);
+		}
+
+		// frames are only drawn on input, packets (including the turn clock) and running animations
+		Gdx.graphics.setContinuousRendering(false);
 	}
 
 
@@ -26,22 +40,61 @@ public class BlockadeSimulator extends ApplicationAdapter {
 
 		context.getPacketHandler().tickQueue();
 
+		if (!context.updateAssets()) {
+			// keep loading at full speed
+			Gdx.graphics.requestRendering();
+		}
+
 		if (!context.isReady()) {
 			context.getConnectScene().update();
 			context.getConnectScene().render();
 			return;
 		}
+		if (allocations != null) {
+			allocations.beginFrame();
+		}
+
 		/*
 		 * Render  and update all scenes
 		 */
-		for (GameScene scene : context.getScenes()) {
+		List<GameScene> scenes = context.getScenes();
+		for (int i = 0; i < scenes.size(); i++) {
+			GameScene scene = scenes.get(i);
 			scene.update();
 			scene.render();
 		}
 
+		if (context.getBattleScene().isAnimating()) {
+			Gdx.graphics.requestRendering();
+		}
+
+		if (allocations != null) {
+			allocations.endFrame();
+			if (allocations.isFinished()) {
+				System.out.println("Allocation check " + (allocations.hasPassed() ? "passed" : "failed")
+						+ ", worst frame allocated " + allocations.getWorstFrame() + " bytes");
+				System.exit(allocations.hasPassed() ? 0 : 1);
+			}
+		}
+
+	}
+	
+	@Override
+	public void resize (int width, int height) {
+		if (context == null) {
+			return;
+		}
+		context.getConnectScene().resize(width, height);
+		List<GameScene> scenes = context.getScenes();
+		for (int i = 0; i < scenes.size(); i++) {
+			scenes.get(i).resize(width, height);
+		}
 	}
 	
 	@Override
 	public void dispose () {
+		if (context != null) {
+			context.destroy();
+		}
 	}
 }
@@ -4,7 +4,12 @@ public class Constants {
 
     public static final String name = "Obsidio Beta v1.9.3";
 
-    public static final int VERSION = 7;
+    public static final int VERSION = 9;
+
+    /**
+     * Client capability flags sent on login
+     */
+    public static final int CAPABILITY_MAP_CACHE = 1;
 
     /**
      * The port the simulator is using
@@ -16,5 +21,32 @@ public class Constants {
      */
     public static boolean PACKET_DEBUG = false;
 
+    /**
+     * If to report battle frames that allocate on the heap, see {@link com.benberi.cadesim.util.AllocationProbe}
+     */
+    public static boolean ALLOCATION_DEBUG = false;
+
+    /**
+     * The bytes a battle frame may allocate before the allocation probe reports it
+     */
+    public static long ALLOCATION_BUDGET = 0;
+
+    /**
+     * If above 0, the allocation probe checks this many battle frames and the client exits, with
+     * a non-zero status if any of them allocated more than {@link #ALLOCATION_BUDGET}
+     */
+    public static int ALLOCATION_CHECK_FRAMES = 0;
+
     public static final int TURN_TIME = 15;
+
+    /**
+     * The height of the control area at the bottom of the window, the battle is drawn above it
+     */
+    public static final int CONTROL_AREA_HEIGHT = 200;
+
+    /**
+     * The battle resolution relative to the window, below 1 the battle is drawn into a smaller
+     * frame buffer and scaled up, trading sharpness for frame rate
+     */
+    public static float RENDER_SCALE = 1f;
 }
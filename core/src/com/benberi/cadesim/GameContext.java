@@ -14,9 +14,12 @@ import com.benberi.cadesim.game.entity.EntityManager;
 import com.benberi.cadesim.game.entity.vessel.move.MoveType;
 import com.benberi.cadesim.game.scene.impl.connect.ConnectScene;
 import com.benberi.cadesim.game.scene.impl.connect.ConnectionSceneState;
+import com.benberi.cadesim.game.scene.GameAssets;
+import com.benberi.cadesim.game.scene.GameFont;
 import com.benberi.cadesim.game.scene.GameScene;
 import com.benberi.cadesim.game.scene.TextureCollection;
 import com.benberi.cadesim.game.scene.impl.battle.SeaBattleScene;
+import com.benberi.cadesim.game.scene.impl.battle.map.MapCache;
 import com.benberi.cadesim.game.scene.impl.control.ControlAreaScene;
 import com.benberi.cadesim.input.GameInputProcessor;
 import com.benberi.cadesim.util.GameToolsContainer;
@@ -64,6 +67,16 @@ public class GameContext {
      */
     private TextureCollection textures;
 
+    /**
+     * The textures and fonts, loading in the background while the connect screen is shown
+     */
+    private GameAssets assets;
+
+    /**
+     * If the battle textures were created from the loaded assets
+     */
+    private boolean assetsCreated;
+
     /**
      * The entity manager
      */
@@ -99,6 +112,11 @@ public class GameContext {
     private ClientPacketHandler packets;
 
     private ConnectScene connectScene;
+
+    /**
+     * The on-disk map cache
+     */
+    private MapCache mapCache;
     public Team myTeam;
 
     public GameContext(BlockadeSimulator main) {
@@ -114,8 +132,23 @@ public class GameContext {
      * Create!
      */
     public void create() {
+        assets = new GameAssets();
         textures = new TextureCollection(this);
-        textures.create();
+
+        // the connect screen assets are queued first and waited for, everything else keeps loading behind the connect screen
+        assets.loadFont(GameFont.CONNECT);
+        assets.loadTexture(ConnectScene.BACKGROUND, false);
+        textures.queueInterface();
+        textures.queue();
+        for (GameFont font : GameFont.values()) {
+            if (font != GameFont.CONNECT) {
+                assets.loadFont(font);
+            }
+        }
+        assets.finishLoading(TextureCollection.getAtlasPath(TextureCollection.UI_ATLAS));
+        textures.createInterface();
+
+        mapCache = new MapCache(this);
 
         
 
@@ -162,6 +195,30 @@ public class GameContext {
          return this.textures;
     }
 
+    /**
+     * Gets the game assets
+     * @return {@link #assets}
+     */
+    public GameAssets getAssets() {
+        return this.assets;
+    }
+
+    /**
+     * Loads assets for a few milliseconds and creates the battle textures once all are loaded, every frame
+     * @return If all assets are loaded
+     */
+    public boolean updateAssets() {
+        if (assetsCreated) {
+            return true;
+        }
+        if (!assets.update()) {
+            return false;
+        }
+        textures.create();
+        assetsCreated = true;
+        return true;
+    }
+
     /**
      * Gets the packet handler
      * @return {@link #packets}
@@ -171,22 +228,37 @@ public class GameContext {
     }
     
     public void createFurtherScenes(int shipId) {
-    	ControlAreaScene.shipId = shipId;
-    	this.input = new GameInputProcessor(this);
-        this.seaBattleScene = new SeaBattleScene(this);
-        seaBattleScene.create();
-        this.controlArea = new ControlAreaScene(this);
-        controlArea.create();
-        scenes.add(controlArea);
-        scenes.add(seaBattleScene);
+        // only waits when logged in before the assets finished loading
+        assets.finishLoading();
+        updateAssets();
+
+        // the scenes and their GPU objects are created on the first login and reset when a session ends
+        if (seaBattleScene == null) {
+            this.input = new GameInputProcessor(this);
+            this.seaBattleScene = new SeaBattleScene(this);
+            seaBattleScene.create();
+            this.controlArea = new ControlAreaScene(this);
+            controlArea.create();
+            scenes.add(controlArea);
+            scenes.add(seaBattleScene);
+        }
+        controlArea.setShip(shipId);
+    }
+
+    /**
+     * Gets the map cache
+     * @return {@link #mapCache}
+     */
+    public MapCache getMapCache() {
+        return mapCache;
     }
 
     public SeaBattleScene getBattleScene() {
-        return (SeaBattleScene) scenes.get(1);
+        return seaBattleScene;
     }
 
     public ControlAreaScene getControlScene() {
-        return (ControlAreaScene) scenes.get(0);
+        return controlArea;
     }
 
     public boolean isReady() {
@@ -233,6 +305,7 @@ public class GameContext {
         packet.setName(display);
         packet.setShip(ship);
         packet.setTeam(team);
+        packet.setCapabilities(Constants.CAPABILITY_MAP_CACHE);
         sendPacket(packet);
         shipId = ship;
     }
@@ -327,15 +400,46 @@ public class GameContext {
 
     }
 
+    /**
+     * Ends the session and returns to the connect screen, called by the network thread when the connection closed
+     *
+     * The scenes, the entity engine and the connect screen are only touched by the render thread, which has the
+     * GL context, so the teardown is posted to it.
+     */
     public void dispose() {
-        controlArea.dispose();
-        seaBattleScene.dispose();
+        Gdx.app.postRunnable(new Runnable() {
+            @Override
+            public void run() {
+                endSession();
+            }
+        });
+    }
+
+    /**
+     * Releases the GPU objects of the scenes when the application exits, on the render thread
+     */
+    public void destroy() {
+        if (seaBattleScene != null) {
+            seaBattleScene.destroy();
+        }
+    }
+
+    private void endSession() {
+        // the packets left from the closed connection would run against the cleared engine
+        packets.clearQueue();
+
+        // the scenes only exist once a login succeeded
+        if (seaBattleScene != null) {
+            controlArea.dispose();
+            seaBattleScene.dispose();
+        }
         entities.dispose();
         isReady = false;
         connected = false;
         connectScene.setup();
         if (!connectScene.hasPopup())
             connectScene.setPopup("You have disconnected from the server.");
+        Gdx.graphics.requestRendering();
     }
 
     public void sendManuaverSlotChanged(int manuaverSlot) {
@@ -363,6 +467,10 @@ public class GameContext {
         sendPacket(packet);
     }
 
+    public void sendRequestMap() {
+        sendPacket(new RequestMapPacket());
+    }
+
     public void notifyFinishTurn() {
         TurnFinishNotification packet = new TurnFinishNotification();
         sendPacket(packet);
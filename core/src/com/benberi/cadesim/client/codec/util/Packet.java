@@ -81,6 +81,10 @@ public class Packet {
         return this.dataBuffer.readByte();
     }
 
+    public int readUnsignedByte() {
+        return this.dataBuffer.readUnsignedByte();
+    }
+
     public String readByteString() {
         byte[] bytes = new byte[dataBuffer.readByte()];
         dataBuffer.readBytes(bytes);
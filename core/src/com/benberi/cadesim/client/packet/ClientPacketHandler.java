@@ -1,13 +1,14 @@
 package com.benberi.cadesim.client.packet;
 
+import com.badlogic.gdx.Gdx;
 import com.benberi.cadesim.GameContext;
 import com.benberi.cadesim.client.codec.util.Packet;
 import com.benberi.cadesim.client.packet.in.*;
 
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Logger;
 
 /**
@@ -23,9 +24,14 @@ public class ClientPacketHandler {
     private GameContext context;
 
     /**
-     * Received packets queue
+     * Received packets queue, filled by the network thread and drained by the render thread
      */
-    private Queue<Packet> packetQueue = new LinkedList<Packet>();
+    private Queue<Packet> packetQueue = new ConcurrentLinkedQueue<Packet>();
+
+    /**
+     * The number of packets handled by the last {@link #tickQueue()}
+     */
+    private int packetsLastTick;
 
     /**
      * The packets map
@@ -38,15 +44,33 @@ public class ClientPacketHandler {
     }
 
     /**
-     * Ticks the packets queue
+     * Ticks the packets queue, handling one packet per frame
+     *
+     * Frames are only drawn when requested, so another frame is requested while packets are left,
+     * the turn animation sees the packets one frame apart as it always did.
      */
     public void tickQueue() {
-        if (packetQueue.isEmpty()) {
+        packetsLastTick = 0;
+        Packet packet = packetQueue.poll();
+        if (packet == null) {
             return;
         }
-
-        Packet packet = packetQueue.poll();
         handle(packet);
+        packetsLastTick = 1;
+        if (!packetQueue.isEmpty()) {
+            Gdx.graphics.requestRendering();
+        }
+    }
+
+    public int getPacketsLastTick() {
+        return packetsLastTick;
+    }
+
+    /**
+     * Gets the number of received packets waiting in the queue
+     */
+    public int getQueueSize() {
+        return packetQueue.size();
     }
 
     /**
@@ -55,6 +79,17 @@ public class ClientPacketHandler {
      */
     public void queuePacket(Packet packet) {
         packetQueue.add(packet);
+        Gdx.graphics.requestRendering();
+    }
+
+    /**
+     * Drops the packets not handled yet, when the session ended
+     */
+    public void clearQueue() {
+        Packet packet;
+        while ((packet = packetQueue.poll()) != null) {
+            packet.getBuffer().release();
+        }
     }
 
     /**
@@ -96,5 +131,6 @@ public class ClientPacketHandler {
         packets.put(16, new SetFlagsPacket(context));
         packets.put(17, new SetPlayerFlagsPacket(context));
         packets.put(18, new SetTeamNamesPacket(context));
+        packets.put(19, new SendMapHashPacket(context));
     }
 }
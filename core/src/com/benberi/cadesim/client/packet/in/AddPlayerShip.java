@@ -15,8 +15,8 @@ public class AddPlayerShip extends ClientPacketExecutor {
     public void execute(Packet p) {
 
         String name = p.readByteString();
-        int x = p.readByte();
-        int y = p.readByte();
+        int x = p.readUnsignedByte();
+        int y = p.readUnsignedByte();
         int face = p.readByte();
         int ship = p.readByte();
         int team = p.readByte();
@@ -14,8 +14,8 @@ public class PlayerRespawnPacket extends ClientPacketExecutor {
     @Override
     public void execute(Packet p) {
         String name = p.readByteString();
-        int x = p.readByte();
-        int y = p.readByte();
+        int x = p.readUnsignedByte();
+        int y = p.readUnsignedByte();
         int face = p.readByte();
 
         Vessel v = getContext().getEntities().getVesselByName(name);
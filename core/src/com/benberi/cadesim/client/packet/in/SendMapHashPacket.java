@@ -0,0 +1,42 @@
+package com.benberi.cadesim.client.packet.in;
+
+import com.benberi.cadesim.GameContext;
+import com.benberi.cadesim.client.codec.util.Packet;
+import com.benberi.cadesim.client.packet.ClientPacketExecutor;
+import com.benberi.cadesim.game.scene.impl.battle.map.BlockadeMap;
+
+/**
+ * Sent instead of {@link SendMapPacket} to clients that support the map cache,
+ * holding only the SHA-256 hash of the map.
+ */
+public class SendMapHashPacket extends ClientPacketExecutor {
+
+    /**
+     * The length of the map hash
+     */
+    private static final int HASH_LENGTH = 32;
+
+    public SendMapHashPacket(GameContext ctx) {
+        super(ctx);
+    }
+
+    @Override
+    public void execute(Packet p) {
+        byte[] hash = p.readBytes(HASH_LENGTH);
+
+        BlockadeMap map = getContext().getMapCache().load(hash);
+        if (map == null) {
+            // Not cached, the server answers with a SendMapPacket
+            getContext().sendRequestMap();
+            return;
+        }
+
+        getContext().getBattleScene().setMap(map);
+        getContext().setReady(true);
+    }
+
+    @Override
+    public int getSize() {
+        return -1;
+    }
+}
@@ -3,6 +3,7 @@ package com.benberi.cadesim.client.packet.in;
 import com.benberi.cadesim.GameContext;
 import com.benberi.cadesim.client.codec.util.Packet;
 import com.benberi.cadesim.client.packet.ClientPacketExecutor;
+import com.benberi.cadesim.game.scene.impl.battle.map.MapCache;
 
 public class SendMapPacket extends ClientPacketExecutor {
 
@@ -12,15 +13,27 @@ public class SendMapPacket extends ClientPacketExecutor {
 
     @Override
     public void execute(Packet p) {
-        int[][] map = new int[20][36];
+        int width = p.readUnsignedByte();
+        int height = p.readUnsignedByte();
+        int safeZoneLower = p.readUnsignedByte();
+        int safeZoneUpper = p.readUnsignedByte();
+
+        int[][] map = new int[width][height];
         while(p.getBuffer().readableBytes() >= 3) {
             int tile = p.readByte();
-            int x = p.readByte();
-            int y = p.readByte();
-            map[x][y] = tile;
+            int x = p.readUnsignedByte();
+            int y = p.readUnsignedByte();
+            if (x < width && y < height) {
+                map[x][y] = tile;
+            }
         }
 
-        getContext().getBattleScene().createMap(map);
+        getContext().getBattleScene().createMap(width, height, safeZoneLower, safeZoneUpper, map);
+
+        byte[] hash = MapCache.hash(width, height, safeZoneLower, safeZoneUpper, map);
+        if (hash != null) {
+            getContext().getMapCache().store(hash, getContext().getBattleScene().getMap());
+        }
         getContext().setReady(true);
     }
 
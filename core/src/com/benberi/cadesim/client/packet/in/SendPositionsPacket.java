@@ -16,8 +16,8 @@ public class SendPositionsPacket extends ClientPacketExecutor {
         int size = p.readByte();
         for (int i = 0; i < size; i++) {
             String name = p.readByteString();
-            int x = p.readByte();
-            int y = p.readByte();
+            int x = p.readUnsignedByte();
+            int y = p.readUnsignedByte();
             int face = p.readByte();
 
             Vessel vessel = getContext().getEntities().getVesselByName(name);
@@ -4,17 +4,33 @@ import com.benberi.cadesim.GameContext;
 import com.benberi.cadesim.client.codec.util.Packet;
 import com.benberi.cadesim.client.packet.ClientPacketExecutor;
 import com.benberi.cadesim.game.cade.Team;
+import com.benberi.cadesim.game.scene.impl.battle.map.layer.BlockadeMapLayer;
 import com.benberi.cadesim.game.scene.impl.battle.map.tile.impl.Flag;
 
+import java.util.function.Predicate;
+
 public class SetFlagsPacket extends ClientPacketExecutor {
 
+    /**
+     * Matches flags that were not part of the last update
+     */
+    private static final Predicate<Flag> REMOVED_FLAG = new Predicate<Flag>() {
+        @Override
+        public boolean test(Flag flag) {
+            return !flag.isUpdated();
+        }
+    };
+
     public SetFlagsPacket(GameContext ctx) {
         super(ctx);
     }
 
     @Override
     public void execute(Packet p) {
-        getContext().getBattleScene().getMap().getFlags().clear();
+        BlockadeMapLayer<Flag> flags = getContext().getBattleScene().getMap().getFlags();
+        for (Flag flag : flags.getObjects()) {
+            flag.setUpdated(false);
+        }
 
         int greenPoints = p.readInt();
         int redPoints = p.readInt();
@@ -28,13 +44,16 @@ public class SetFlagsPacket extends ClientPacketExecutor {
             int x = p.readInt();
             int y = p.readInt();
 
-            Flag flag = new Flag(getContext(), x, y);
-            flag.setSize(flagType);
-            flag.setControllerTeam(Team.forId(controllerTeam));
-            flag.setAtWar(isAtWar == 1);
-            flag.updateTextureRegion();
-            getContext().getBattleScene().getMap().getFlags().add(flag);
+            Flag flag = flags.get(x, y);
+            if (flag == null) {
+                flag = new Flag(getContext(), x, y);
+                flags.add(flag);
+            }
+            flag.setState(flagType, isAtWar == 1, Team.forId(controllerTeam), false);
+            flag.setUpdated(true);
         }
+
+        flags.removeIf(REMOVED_FLAG);
         if(getContext().getBattleScene().getInformation().getTime() > 0) {
         	getContext().getBattleScene().getInformation().setPoints(greenPoints, redPoints);
         }
@@ -26,19 +26,17 @@ public class SetPlayerFlagsPacket extends ClientPacketExecutor {
             if (vessel != null) {
                 int flagsSize = p.readByte();
                 for (int j = 0; j < flagsSize; j++) {
-                    int x = p.readByte();
-                    int y = p.readByte();
+                    int x = p.readUnsignedByte();
+                    int y = p.readUnsignedByte();
 
                     Flag flag = getContext().getBattleScene().getMap().getFlags().get(x, y);
                     if (flag != null && flag.getControllerTeam() != null) {
-                        FlagSymbol fs = new FlagSymbol(flag.getSize(), flag.isAtWar(), flag.getControllerTeam());
-                        if (!flag.isAtWar() && (vesselName.equals(getContext().myVessel) || vessel.getTeam().getID() == getContext().myTeam.getID())) {
-                            fs.setLocal(true);
+                        boolean local = !flag.isAtWar() && (vesselName.equals(getContext().myVessel) || vessel.getTeam().getID() == getContext().myTeam.getID());
+                        if (local) {
                             flag.setLocal(true);
-                            flag.updateTextureRegion();
                         }
 
-                        fs.createTexture();
+                        FlagSymbol fs = getContext().getTextures().getFlagSymbol(flag.getSize(), flag.isAtWar(), flag.getControllerTeam(), local);
                         vessel.getFlags().add(fs);
                     }
                 }
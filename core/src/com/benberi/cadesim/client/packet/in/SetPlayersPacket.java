@@ -17,8 +17,8 @@ public class SetPlayersPacket extends ClientPacketExecutor {
 
         for (int i = 0; i < size; i++) {
             String name = p.readByteString();
-            int x = p.readByte();
-            int y = p.readByte();
+            int x = p.readUnsignedByte();
+            int y = p.readUnsignedByte();
             int face = p.readByte();
             int ship = p.readByte();
             int team = p.readByte();
@@ -13,6 +13,7 @@ public class LoginPacket extends OutgoingPacket {
     private int ship;
     private int version;
     private int team;
+    private int capabilities;
 
     public LoginPacket() {
         super(0);
@@ -29,6 +30,7 @@ public class LoginPacket extends OutgoingPacket {
         writeByte(ship);
         writeByte(team);
         writeByteString(name);
+        writeByte(capabilities);
         setLength(getBuffer().readableBytes());
     }
 
@@ -43,4 +45,8 @@ public class LoginPacket extends OutgoingPacket {
     public void setTeam(int team) {
         this.team = team;
     }
+
+    public void setCapabilities(int capabilities) {
+        this.capabilities = capabilities;
+    }
 }
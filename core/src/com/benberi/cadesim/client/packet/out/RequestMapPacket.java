@@ -0,0 +1,21 @@
+package com.benberi.cadesim.client.packet.out;
+
+import com.benberi.cadesim.client.codec.util.PacketLength;
+import com.benberi.cadesim.client.packet.OutgoingPacket;
+
+/**
+ * Requests the full map from the server, after a map hash
+ * was received for a map that is not in the local cache.
+ */
+public class RequestMapPacket extends OutgoingPacket {
+    public RequestMapPacket() {
+        super(7);
+    }
+
+    @Override
+    public void encode() {
+        setPacketLengthType(PacketLength.BYTE);
+        writeByte(1);
+        setLength(1);
+    }
+}
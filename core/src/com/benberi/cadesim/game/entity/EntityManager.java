@@ -1,9 +1,17 @@
 package com.benberi.cadesim.game.entity;
 
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.Pool;
 import com.benberi.cadesim.GameContext;
 import com.benberi.cadesim.game.cade.Team;
+import com.benberi.cadesim.game.entity.component.*;
+import com.benberi.cadesim.game.entity.effect.EffectType;
+import com.benberi.cadesim.game.entity.projectile.CannonBall;
+import com.benberi.cadesim.game.entity.system.EffectSystem;
 import com.benberi.cadesim.game.entity.vessel.Vessel;
-import com.benberi.cadesim.game.entity.vessel.VesselFactory;
+import com.benberi.cadesim.game.entity.vessel.VesselPool;
 import com.benberi.cadesim.game.entity.vessel.impl.WarFrigate;
 import com.benberi.cadesim.game.entity.vessel.move.MovePhase;
 
@@ -21,37 +29,186 @@ public class EntityManager {
      */
     private List<Vessel> vessels = new ArrayList<Vessel>();
 
+    /**
+     * Vessels by lower-cased name
+     */
+    private Map<String, Vessel> names = new HashMap<String, Vessel>();
+
+    /**
+     * Removed vessels kept for reuse, across disconnects as well
+     */
+    private VesselPool pool;
+
+    /**
+     * The engine holding the battle entities, its systems are added by the sea battle scene
+     */
+    private PooledEngine engine = new PooledEngine();
+
+    /**
+     * Cannon balls created up front, enough for every vessel of a full battle to shoot both sides
+     */
+    public static final int PREALLOCATED_BALLS = 128;
+
+    /**
+     * Cannon balls not in flight
+     */
+    private Pool<CannonBall> cannonBalls = new Pool<CannonBall>(PREALLOCATED_BALLS) {
+        @Override
+        protected CannonBall newObject() {
+            return new CannonBall();
+        }
+    };
+
+    private static final Family DELAYED = Family.all(VesselComponent.class, DelayComponent.class).get();
+    private static final Family SINKING = Family.all(VesselComponent.class, SinkingComponent.class).get();
+    private static final Family PROJECTILES = Family.all(ProjectileComponent.class).get();
+
+    /**
+     * Vessels by map cell, indexed by x * {@link #occupancyHeight} + y, see {@link #updateOccupancy(int, int)}
+     */
+    private Vessel[] occupancy = new Vessel[0];
+    private int occupancyWidth;
+    private int occupancyHeight;
+
     public EntityManager(GameContext context) {
         this.context = context;
+        this.pool = new VesselPool(context);
+
+        CannonBall[] balls = new CannonBall[PREALLOCATED_BALLS];
+        for (int i = 0; i < balls.length; i++) {
+            balls[i] = cannonBalls.obtain();
+        }
+        for (CannonBall ball : balls) {
+            cannonBalls.free(ball);
+        }
     }
 
     /**
      * Adds an entity
      */
     public void addEntity(String name, int x, int y, int face, int ship, int team) {
-        Vessel vessel = VesselFactory.create(context, name, x, y, ship);
-        vessel.setTeam(Team.forId(team));
-        vessel.create();
+        Vessel existing = getVesselByName(name);
+        if (existing != null) {
+            remove(existing);
+        }
+
+        Vessel vessel = pool.obtain(name, x, y, ship, Team.forId(team));
         vessel.setRotationIndex(face);
+
+        vessel.setListIndex(vessels.size());
         vessels.add(vessel);
+        names.put(toKey(name), vessel);
+
+        com.badlogic.ashley.core.Entity entity = engine.createEntity();
+        VesselComponent component = engine.createComponent(VesselComponent.class);
+        component.setVessel(vessel);
+        entity.add(component);
+        engine.addEntity(entity);
+        vessel.setEngineEntity(entity);
+    }
+
+    /**
+     * Takes a cannon ball from the pool, to be started and added by {@link #addProjectile(Vessel, CannonBall)}
+     */
+    public CannonBall obtainCannonBall() {
+        return cannonBalls.obtain();
+    }
+
+    /**
+     * Adds a cannon ball in flight
+     * @param source    The vessel that shot the ball
+     * @param ball      The ball, from {@link #obtainCannonBall()}
+     */
+    public void addProjectile(Vessel source, CannonBall ball) {
+        com.badlogic.ashley.core.Entity entity = engine.createEntity();
+        ProjectileComponent component = engine.createComponent(ProjectileComponent.class);
+        component.setSource(source);
+        component.setBall(ball);
+        source.setCannonballsInFlight(source.getCannonballsInFlight() + 1);
+        entity.add(component);
+        engine.addEntity(entity);
+    }
+
+    /**
+     * Removes a cannon ball entity, returning its ball to the pool
+     */
+    public void removeProjectile(com.badlogic.ashley.core.Entity entity) {
+        ProjectileComponent projectile = Mappers.PROJECTILE.get(entity);
+        projectile.getSource().setCannonballsInFlight(projectile.getSource().getCannonballsInFlight() - 1);
+        cannonBalls.free(projectile.getBall());
+        engine.removeEntity(entity);
+    }
+
+    /**
+     * Starts an effect, if the battle systems are running
+     * @param type  The effect type
+     * @param x     The map x the effect is centered on
+     * @param y     The map y the effect is centered on
+     */
+    public void spawnEffect(EffectType type, float x, float y) {
+        EffectSystem effects = engine.getSystem(EffectSystem.class);
+        if (effects != null) {
+            effects.spawn(type, x, y);
+        }
+    }
+
+    /**
+     * Gets the engine of the battle entities
+     * @return {@link #engine}
+     */
+    public PooledEngine getEngine() {
+        return engine;
+    }
+
+    private static String toKey(String name) {
+        return name.toLowerCase(Locale.ENGLISH);
     }
 
     public Vessel getVessel(int index) {
         return vessels.get(index);
     }
 
-    public Vessel getVesselByPosition(float x, float y) {
-        clearNulls();
-        for (Vessel vessel : vessels) {
-            if (Math.round(vessel.getX()) == x && Math.round(vessel.getY()) == y) {
-                return vessel;
+    /**
+     * Records the cell of every vessel, for {@link #getVesselAt(int, int)}
+     *
+     * Vessels are only looked up by cell while they stand still, so the grid is updated
+     * once before they are queried, not on every move. The battle renderer updates it once
+     * per frame to draw every vessel on its cell.
+     * @param width     The map width
+     * @param height    The map height
+     */
+    public void updateOccupancy(int width, int height) {
+        if (occupancy.length != width * height) {
+            occupancy = new Vessel[width * height];
+        }
+        else {
+            Arrays.fill(occupancy, null);
+        }
+        occupancyWidth = width;
+        occupancyHeight = height;
+
+        for (int i = 0; i < vessels.size(); i++) {
+            Vessel vessel = vessels.get(i);
+            if (vessel == null) {
+                continue;
+            }
+            int x = Math.round(vessel.getX());
+            int y = Math.round(vessel.getY());
+            if (x >= 0 && x < width && y >= 0 && y < height && occupancy[x * height + y] == null) {
+                occupancy[x * height + y] = vessel;
             }
         }
-        return null;
     }
 
-    public void clearNulls() {
-        vessels.removeIf(Objects::isNull);
+    /**
+     * Gets the vessel at the given cell, as of the last {@link #updateOccupancy(int, int)}
+     * @return The vessel, or <code>null</code> if the cell is empty
+     */
+    public Vessel getVesselAt(int x, int y) {
+        if (x < 0 || x >= occupancyWidth || y < 0 || y >= occupancyHeight) {
+            return null;
+        }
+        return occupancy[x * occupancyHeight + y];
     }
 
     /**
@@ -76,9 +233,24 @@ public class EntityManager {
         return count;
     }
 
+    /**
+     * If any cannon ball is in flight
+     */
+    public boolean hasProjectiles() {
+        return engine.getEntitiesFor(PROJECTILES).size() > 0;
+    }
+
     public boolean hasDelayedVessels() {
-        for (Vessel v : vessels) {
-            if (v.hasDelay()) {
+        return engine.getEntitiesFor(DELAYED).size() > 0;
+    }
+
+    /**
+     * If any vessel still plays its sinking animation
+     */
+    public boolean hasSinkingAnimations() {
+        ImmutableArray<com.badlogic.ashley.core.Entity> sinking = engine.getEntitiesFor(SINKING);
+        for (int i = 0; i < sinking.size(); i++) {
+            if (!Mappers.VESSEL.get(sinking.get(i)).getVessel().isSinkingAnimationFinished()) {
                 return true;
             }
         }
@@ -103,16 +275,13 @@ public class EntityManager {
     /**
      * Gets a vessel by name
      * @param name  The name
-     * @return The vessel instance
+     * @return The vessel instance, or <code>null</code> if there is none
      */
     public Vessel getVesselByName(String name) {
-        for (Vessel vessel : vessels) {
-            if (vessel.getName().equalsIgnoreCase(name)) {
-                return vessel;
-            }
+        if (name == null) {
+            return null;
         }
-
-        return null;
+        return names.get(toKey(name));
     }
 
     /**
@@ -123,16 +292,57 @@ public class EntityManager {
         return vessels.size();
     }
 
+    /**
+     * Removes all entities and returns them to their pools, on the render thread as the engine is not thread-safe
+     */
     public void dispose() {
+        ImmutableArray<com.badlogic.ashley.core.Entity> projectiles = engine.getEntitiesFor(PROJECTILES);
+        for (int i = projectiles.size() - 1; i > -1; i--) {
+            removeProjectile(projectiles.get(i));
+        }
+        engine.removeAllEntities();
+        for (Vessel vessel : vessels) {
+            vessel.setEngineEntity(null);
+            vessel.setListIndex(-1);
+            pool.free(vessel);
+        }
         vessels.clear();
+        names.clear();
+        Arrays.fill(occupancy, null);
     }
 
     public int countNonSinking() {
         return (int) vessels.stream().filter(v -> !v.isSinking()).count();
     }
 
+    /**
+     * Removes a vessel, moving the last vessel into its place in the list
+     * @param vessel    The vessel to remove
+     */
     public void remove(Vessel vessel) {
-        vessels.removeIf(vessel1 -> vessel1 == vessel);
+        int index = vessel.getListIndex();
+        if (index < 0 || index >= vessels.size() || vessels.get(index) != vessel) {
+            return;
+        }
+        Vessel last = vessels.remove(vessels.size() - 1);
+        if (last != vessel) {
+            vessels.set(index, last);
+            last.setListIndex(index);
+        }
+        vessel.setListIndex(-1);
+
+        names.remove(toKey(vessel.getName()));
+
+        ImmutableArray<com.badlogic.ashley.core.Entity> projectiles = engine.getEntitiesFor(PROJECTILES);
+        for (int i = projectiles.size() - 1; i > -1; i--) {
+            if (Mappers.PROJECTILE.get(projectiles.get(i)).getSource() == vessel) {
+                removeProjectile(projectiles.get(i));
+            }
+        }
+        engine.removeEntity(vessel.getEngineEntity());
+        vessel.setEngineEntity(null);
+
+        pool.free(vessel);
     }
 
     public void clearFlagSymbols() {
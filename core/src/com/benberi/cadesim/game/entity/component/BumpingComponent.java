@@ -0,0 +1,9 @@
+package com.benberi.cadesim.game.entity.component;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Marks a vessel that is performing a bump animation
+ */
+public class BumpingComponent implements Component {
+}
@@ -0,0 +1,9 @@
+package com.benberi.cadesim.game.entity.component;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Marks a vessel that waits for its move delay before the next phase
+ */
+public class DelayComponent implements Component {
+}
@@ -0,0 +1,16 @@
+package com.benberi.cadesim.game.entity.component;
+
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * Shared component mappers, for fast component access in the systems
+ */
+public final class Mappers {
+
+    public static final ComponentMapper<VesselComponent> VESSEL = ComponentMapper.getFor(VesselComponent.class);
+
+    public static final ComponentMapper<ProjectileComponent> PROJECTILE = ComponentMapper.getFor(ProjectileComponent.class);
+
+    private Mappers() {
+    }
+}
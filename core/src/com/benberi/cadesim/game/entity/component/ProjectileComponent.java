@@ -0,0 +1,41 @@
+package com.benberi.cadesim.game.entity.component;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+import com.benberi.cadesim.game.entity.projectile.CannonBall;
+import com.benberi.cadesim.game.entity.vessel.Vessel;
+
+/**
+ * A cannon ball in flight
+ */
+public class ProjectileComponent implements Component, Pool.Poolable {
+
+    private CannonBall ball;
+
+    /**
+     * The vessel that shot the ball
+     */
+    private Vessel source;
+
+    public CannonBall getBall() {
+        return ball;
+    }
+
+    public void setBall(CannonBall ball) {
+        this.ball = ball;
+    }
+
+    public Vessel getSource() {
+        return source;
+    }
+
+    public void setSource(Vessel source) {
+        this.source = source;
+    }
+
+    @Override
+    public void reset() {
+        ball = null;
+        source = null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.benberi.cadesim.game.entity.component;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+import com.benberi.cadesim.game.entity.vessel.Vessel;
+
+/**
+ * Links an engine entity to the vessel it represents
+ */
+public class VesselComponent implements Component, Pool.Poolable {
+
+    private Vessel vessel;
+
+    public Vessel getVessel() {
+        return vessel;
+    }
+
+    public void setVessel(Vessel vessel) {
+        this.vessel = vessel;
+    }
+
+    @Override
+    public void reset() {
+        vessel = null;
+    }
+}
@@ -0,0 +1,93 @@
+package com.benberi.cadesim.game.entity.effect;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * A playing effect animation, pooled by {@link com.benberi.cadesim.game.entity.system.EffectSystem}
+ */
+public class Effect implements Pool.Poolable {
+
+    private EffectType type;
+
+    /**
+     * The map position the effect is centered on
+     */
+    private float x;
+    private float y;
+
+    /**
+     * The current frame, and the time it has been shown for
+     */
+    private int frame;
+    private float time;
+
+    private int frameCount;
+
+    /**
+     * The region of all frames of the type
+     */
+    private TextureRegion frames;
+
+    /**
+     * The region of the current frame
+     */
+    private TextureRegion region = new TextureRegion();
+
+    /**
+     * Starts the effect on its first frame
+     * @param type      The effect type
+     * @param frames    The frames region of the type
+     * @param x         The map x
+     * @param y         The map y
+     */
+    public void start(EffectType type, TextureRegion frames, float x, float y) {
+        this.type = type;
+        this.x = x;
+        this.y = y;
+        frame = 0;
+        time = 0;
+        frameCount = frames.getRegionWidth() / type.getFrameWidth();
+        this.frames = frames;
+        region.setRegion(frames, 0, 0, type.getFrameWidth(), type.getFrameHeight());
+    }
+
+    /**
+     * Advances the animation
+     * @param delta The elapsed time in seconds
+     * @return If the effect is still playing
+     */
+    public boolean update(float delta) {
+        time += delta;
+        if (time < type.getFrameDuration()) {
+            return true;
+        }
+        time -= type.getFrameDuration();
+        frame++;
+        if (frame >= frameCount) {
+            return false;
+        }
+        region.setRegion(frames, frame * type.getFrameWidth(), 0, type.getFrameWidth(), type.getFrameHeight());
+        return true;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public TextureRegion getRegion() {
+        return region;
+    }
+
+    @Override
+    public void reset() {
+        type = null;
+        frames = null;
+        frame = 0;
+        time = 0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.benberi.cadesim.game.entity.effect;
+
+/**
+ * The kinds of short animations played on the battle map, and their frame timings
+ *
+ * Every effect texture is a horizontal strip of frames, the number of frames is the texture
+ * width divided by the frame width.
+ */
+public enum EffectType {
+    SMALL_SPLASH("small_splash", 40, 30, 0.05f),
+    LARGE_SPLASH("large_splash", 40, 30, 0.05f),
+    HIT("hit", 40, 30, 0.05f),
+    MEDIUM_SMOKE("explode_medium", 40, 30, 0.1f),
+    BIG_SMOKE("explode_big", 40, 30, 0.1f);
+
+    /**
+     * The misc texture holding the frames
+     */
+    private String texture;
+
+    private int frameWidth;
+    private int frameHeight;
+
+    /**
+     * The time each frame is shown, in seconds
+     */
+    private float frameDuration;
+
+    EffectType(String texture, int frameWidth, int frameHeight, float frameDuration) {
+        this.texture = texture;
+        this.frameWidth = frameWidth;
+        this.frameHeight = frameHeight;
+        this.frameDuration = frameDuration;
+    }
+
+    public String getTexture() {
+        return texture;
+    }
+
+    public int getFrameWidth() {
+        return frameWidth;
+    }
+
+    public int getFrameHeight() {
+        return frameHeight;
+    }
+
+    public float getFrameDuration() {
+        return frameDuration;
+    }
+}
@@ -1,13 +1,17 @@
 package com.benberi.cadesim.game.entity.projectile;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+import com.benberi.cadesim.game.entity.effect.EffectType;
 import com.benberi.cadesim.game.entity.vessel.Vessel;
 
-public class CannonBall extends Sprite {
+/**
+ * A cannon ball in flight, pooled by {@link com.benberi.cadesim.game.entity.EntityManager}
+ */
+public class CannonBall extends Sprite implements Pool.Poolable {
 
     public static float VELOCITY = 3.5f;
 
@@ -19,7 +23,8 @@ public class CannonBall extends Sprite {
     /**
      * The target location
      */
-    private Vector2 target;
+    private float targetX;
+    private float targetY;
 
     /**
      * If the cannon reached its destination
@@ -31,10 +36,11 @@ public class CannonBall extends Sprite {
      */
     private boolean released = true;
 
-    private TextureRegion ending;
-
-    private Texture splash;
-    private Texture hit;
+    /**
+     * The effect played where the ball lands
+     */
+    private EffectType splash;
+    private boolean explodeOnReach;
 
     /**
      * When a vessel shoots two cannons, the second cannon will be contained in the first cannon, so it can
@@ -42,51 +48,34 @@ public class CannonBall extends Sprite {
      */
     private CannonBall subcannon;
 
-    private int splashTicks;
-
-    private int regX;
-    private boolean explodeOnReach;
-
-    protected CannonBall(Vessel source, Vector2 target, Texture t, Texture splash, Texture hit) {
-        super(t);
+    /**
+     * Starts the ball from its source
+     * @param source    The vessel that shoots
+     * @param targetX   The target x
+     * @param targetY   The target y
+     * @param ball      The ball region
+     * @param splash    The effect played if the ball lands in the water
+     */
+    public void init(Vessel source, float targetX, float targetY, TextureRegion ball, EffectType splash) {
+        setRegion(ball);
         this.source = source;
-        this.target = target;
-        setPosition(source.getX(), source.getY());
-
-        this.hit = hit;
+        this.targetX = targetX;
+        this.targetY = targetY;
         this.splash = splash;
-
-        this.ending = new TextureRegion(splash);
-        this.ending.setRegionWidth(40);
-        this.ending.setRegionHeight(30);
-        this.ending.setRegionX(0);
-        this.ending.setRegionY(0);
-    }
-
-    public boolean finnishedEndingAnimation() {
-        return ending.getRegionX() >= ending.getTexture().getWidth();
+        setPosition(source.getX(), source.getY());
     }
 
-    public void tickEndingAnimation() {
-        if (splashTicks >= 2) {
-            ending.setRegion(regX, 0, 40, 30);
-            System.out.println(ending.getRegionX());
-            regX += 40;
-            splashTicks = 0;
-        }
-        else {
-            splashTicks += 100 * Gdx.graphics.getDeltaTime();
-        }
+    /**
+     * Gets the effect to play where the ball landed
+     */
+    public EffectType getEndingEffect() {
+        return explodeOnReach ? EffectType.HIT : splash;
     }
 
     public void setSubcannon(CannonBall c) {
         this.subcannon = c;
     }
 
-    public TextureRegion getEndingAnimationRegion() {
-        return ending;
-    }
-
     public CannonBall getSubcannon() {
         return subcannon;
     }
@@ -108,9 +97,7 @@ public class CannonBall extends Sprite {
     }
 
     public boolean canReleaseSubCannon() {
-        Vector2 v1 = new Vector2(getX(), getY());
-        Vector2 v2 = new Vector2(subcannon.getX(), subcannon.getY());
-        if (v1.dst(v2) >= 0.65) {
+        if (Vector2.dst(getX(), getY(), subcannon.getX(), subcannon.getY()) >= 0.65) {
             return  true;
         }
         return false;
@@ -118,27 +105,27 @@ public class CannonBall extends Sprite {
 
 
     public void move() {
-        if (source.getX() != target.x) {
-            if (source.getX() > target.x) {
+        if (source.getX() != targetX) {
+            if (source.getX() > targetX) {
                 setX(getX() - (VELOCITY * Gdx.graphics.getDeltaTime()) );
-                if (getX() <= target.x) {
+                if (getX() <= targetX) {
                     reached = true;
                 }
             } else {
                 setX(getX() + (VELOCITY * Gdx.graphics.getDeltaTime()));
-                if (getX() >= target.x) {
+                if (getX() >= targetX) {
                     reached = true;
                 }
             }
-        } else if (source.getY() != target.y) {
-            if (source.getY() > target.y) {
+        } else if (source.getY() != targetY) {
+            if (source.getY() > targetY) {
                 setY(getY() - (VELOCITY * Gdx.graphics.getDeltaTime()) );
-                if (getY() <= target.y) {
+                if (getY() <= targetY) {
                     reached = true;
                 }
             } else {
                 setY(getY() + (VELOCITY * Gdx.graphics.getDeltaTime()));
-                if (getY() >= target.y) {
+                if (getY() >= targetY) {
                     reached = true;
                 }
             }
@@ -147,12 +134,15 @@ public class CannonBall extends Sprite {
 
     public void setExplodeOnReach(boolean explodeOnReach) {
         this.explodeOnReach = explodeOnReach;
-        if (explodeOnReach) {
-            this.ending = new TextureRegion(hit);
-            this.ending.setRegionWidth(40);
-            this.ending.setRegionHeight(30);
-            this.ending.setRegionX(0);
-            this.ending.setRegionY(0);
-        }
+    }
+
+    @Override
+    public void reset() {
+        source = null;
+        splash = null;
+        subcannon = null;
+        reached = false;
+        released = true;
+        explodeOnReach = false;
     }
 }
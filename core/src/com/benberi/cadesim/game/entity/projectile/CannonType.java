@@ -0,0 +1,44 @@
+package com.benberi.cadesim.game.entity.projectile;
+
+import com.benberi.cadesim.game.entity.effect.EffectType;
+
+/**
+ * The cannons a vessel can carry, with the effects of their shots
+ */
+public enum CannonType {
+    MEDIUM("medium_ball", EffectType.SMALL_SPLASH, EffectType.MEDIUM_SMOKE),
+    LARGE("large_ball", EffectType.LARGE_SPLASH, EffectType.BIG_SMOKE);
+
+    /**
+     * The misc texture of the ball
+     */
+    private String ball;
+
+    /**
+     * Played where a ball lands in the water
+     */
+    private EffectType splash;
+
+    /**
+     * Played on the vessel that shoots
+     */
+    private EffectType smoke;
+
+    CannonType(String ball, EffectType splash, EffectType smoke) {
+        this.ball = ball;
+        this.splash = splash;
+        this.smoke = smoke;
+    }
+
+    public String getBall() {
+        return ball;
+    }
+
+    public EffectType getSplash() {
+        return splash;
+    }
+
+    public EffectType getSmoke() {
+        return smoke;
+    }
+}
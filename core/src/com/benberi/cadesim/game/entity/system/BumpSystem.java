@@ -0,0 +1,69 @@
+package com.benberi.cadesim.game.entity.system;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.Gdx;
+import com.benberi.cadesim.game.entity.component.BumpingComponent;
+import com.benberi.cadesim.game.entity.component.Mappers;
+import com.benberi.cadesim.game.entity.component.SinkingComponent;
+import com.benberi.cadesim.game.entity.component.VesselComponent;
+import com.benberi.cadesim.game.entity.vessel.Vessel;
+import com.benberi.cadesim.game.entity.vessel.VesselBumpVector;
+import com.benberi.cadesim.game.entity.vessel.VesselMovementAnimation;
+
+
+/**
+ * Plays the bump animation of vessels that collided
+ */
+public class BumpSystem extends IteratingSystem {
+
+    public BumpSystem(int priority) {
+        super(Family.all(VesselComponent.class, BumpingComponent.class).exclude(SinkingComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Vessel vessel = Mappers.VESSEL.get(entity).getVessel();
+        VesselBumpVector vector = vessel.getBumpVector();
+        if (!vessel.isBumpReached()) {
+            float speed = vessel.getCurrentPerformingMove() == VesselMovementAnimation.BUMP_PHASE_1 ? 1f : 1.75f;
+
+            vessel.setX(vessel.getX() + (vector.getDirectionX() * speed * Gdx.graphics.getDeltaTime()));
+            vessel.setY(vessel.getY() + (vector.getDirectionY() * speed * Gdx.graphics.getDeltaTime()));
+
+            float distance = vector.getStart().dst(vessel.getX(), vessel.getY());
+            if(distance >= vector.getDistance())
+            {
+                vessel.setPosition(vector.getEnd().x, vector.getEnd().y);
+                vessel.setBumpReached(true);
+                if (vessel.getCurrentPerformingMove() == VesselMovementAnimation.BUMP_PHASE_1) {
+                    vessel.tickBumpRotation(2);
+                }
+                else {
+                    vessel.tickBumpRotation(1);
+                }
+
+            }
+            else if (vessel.getCurrentPerformingMove() == VesselMovementAnimation.BUMP_PHASE_2 && distance >= vector.getDistance() / 2 && !vector.isPlayedMiddleAnimation()) {
+                vessel.tickBumpRotation(1);
+                vector.setPlayedMiddleAnimation(true);
+            }
+        }
+        else {
+            if (vessel.getCurrentPerformingMove() == VesselMovementAnimation.BUMP_PHASE_1 || vessel.getCurrentPerformingMove().getId() >= 12) {
+                vessel.setX(vessel.getX() + (vector.getDirectionX() * 2f * Gdx.graphics.getDeltaTime()));
+                vessel.setY(vessel.getY() + (vector.getDirectionY() * 2f * Gdx.graphics.getDeltaTime()));
+                if (vector.getStart().dst(vessel.getX(), vessel.getY()) >= vector.getDistance()) {
+                    vessel.setPosition(vector.getEnd().x, vector.getEnd().y);
+                    vessel.tickBumpRotation(1);
+                    vessel.disposeBump();
+                }
+            }
+            else {
+                vessel.tickBumpRotation(1);
+                vessel.disposeBump();
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.benberi.cadesim.game.entity.system;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.benberi.cadesim.game.entity.component.DelayComponent;
+import com.benberi.cadesim.game.entity.component.Mappers;
+import com.benberi.cadesim.game.entity.component.SinkingComponent;
+import com.benberi.cadesim.game.entity.component.VesselComponent;
+
+/**
+ * Counts down the move delay of vessels that finished a move
+ */
+public class DelaySystem extends IteratingSystem {
+
+    public DelaySystem(int priority) {
+        super(Family.all(VesselComponent.class, DelayComponent.class).exclude(SinkingComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Mappers.VESSEL.get(entity).getVessel().tickMoveDelay();
+    }
+}
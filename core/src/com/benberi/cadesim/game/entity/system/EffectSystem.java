@@ -0,0 +1,91 @@
+package com.benberi.cadesim.game.entity.system;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.benberi.cadesim.GameContext;
+import com.benberi.cadesim.game.entity.EntityManager;
+import com.benberi.cadesim.game.entity.effect.Effect;
+import com.benberi.cadesim.game.entity.effect.EffectType;
+
+/**
+ * Plays the splashes, hits and shoot smoke of all vessels, walking every playing effect once per update
+ *
+ * Effects are taken from a pool filled up front, so a shoot phase does not allocate.
+ */
+public class EffectSystem extends EntitySystem {
+
+    /**
+     * Effects created up front, a cannon fires at most one smoke and one splash or hit per ball,
+     * so twice the preallocated cannon balls
+     */
+    private static final int PREALLOCATED = EntityManager.PREALLOCATED_BALLS * 2;
+
+    private GameContext context;
+
+    /**
+     * The playing effects, unordered so a finished effect is replaced by the last one
+     */
+    private Array<Effect> effects = new Array<Effect>(false, PREALLOCATED);
+
+    private Pool<Effect> pool = new Pool<Effect>(PREALLOCATED) {
+        @Override
+        protected Effect newObject() {
+            return new Effect();
+        }
+    };
+
+    public EffectSystem(GameContext context, int priority) {
+        super(priority);
+        this.context = context;
+        for (int i = 0; i < PREALLOCATED; i++) {
+            effects.add(pool.obtain());
+        }
+        pool.freeAll(effects);
+        effects.clear();
+    }
+
+    /**
+     * Starts an effect
+     * @param type  The effect type
+     * @param x     The map x the effect is centered on
+     * @param y     The map y the effect is centered on
+     */
+    public void spawn(EffectType type, float x, float y) {
+        Effect effect = pool.obtain();
+        effect.start(type, context.getTextures().getMisc(type.getTexture()), x, y);
+        effects.add(effect);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        for (int i = effects.size - 1; i > -1; i--) {
+            Effect effect = effects.get(i);
+            if (!effect.update(deltaTime)) {
+                effects.removeIndex(i);
+                pool.free(effect);
+            }
+        }
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        clear();
+    }
+
+    /**
+     * Stops all playing effects
+     */
+    public void clear() {
+        pool.freeAll(effects);
+        effects.clear();
+    }
+
+    /**
+     * Gets the playing effects
+     */
+    public Array<Effect> getEffects() {
+        return effects;
+    }
+}
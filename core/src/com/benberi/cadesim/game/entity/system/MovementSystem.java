@@ -0,0 +1,101 @@
+package com.benberi.cadesim.game.entity.system;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Bezier;
+import com.badlogic.gdx.math.Vector2;
+import com.benberi.cadesim.game.entity.component.BumpingComponent;
+import com.benberi.cadesim.game.entity.component.MovingComponent;
+import com.benberi.cadesim.game.entity.component.Mappers;
+import com.benberi.cadesim.game.entity.component.SinkingComponent;
+import com.benberi.cadesim.game.entity.component.VesselComponent;
+import com.benberi.cadesim.game.entity.vessel.Vessel;
+import com.benberi.cadesim.game.entity.vessel.VesselMovementAnimation;
+import com.benberi.cadesim.game.entity.vessel.move.MovePhase;
+import com.benberi.cadesim.game.scene.impl.battle.SeaBattleScene;
+
+
+/**
+ * Moves vessels along their move animation
+ */
+public class MovementSystem extends IteratingSystem {
+
+    private SeaBattleScene scene;
+
+    /**
+     * Temporary vector for the curve calculations
+     */
+    private Vector2 tmp = new Vector2();
+
+    public MovementSystem(SeaBattleScene scene, int priority) {
+        super(Family.all(VesselComponent.class, MovingComponent.class).exclude(BumpingComponent.class, SinkingComponent.class).get(), priority);
+        this.scene = scene;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Vessel vessel = Mappers.VESSEL.get(entity).getVessel();
+        VesselMovementAnimation move = vessel.getCurrentPerformingMove();
+
+        Vector2 start = vessel.getAnimation().getStartPoint();
+        Vector2 inbetween = vessel.getAnimation().getInbetweenPoint();
+        Vector2 end = vessel.getAnimation().getEndPoint();
+        Vector2 current = vessel.getAnimation().getCurrentAnimationLocation();
+
+        float velocityTurns = (1.25f * Gdx.graphics.getDeltaTime());
+        float velocityForward = (1.8f * Gdx.graphics.getDeltaTime());
+
+        if (!move.isOneDimensionMove()) {
+            vessel.getAnimation().addStep(velocityTurns);
+            // step on curve (0 -> 1), first bezier point, second bezier point, third bezier point, temporary vector for calculations
+            Bezier.quadratic(current, (float) vessel.getAnimation().getCurrentStep(), start,
+                    inbetween, end, tmp);
+        }
+        else {
+            // When ship moving forward, we may not want to use the curve
+            int add = move.getIncrementXForRotation(vessel.getRotationIndex());
+            if (add == -1 || add == 1) {
+                current.x += (velocityForward * (float) add);
+            }
+            else {
+                add = move.getIncrementYForRotation(vessel.getRotationIndex());
+                current.y += (velocityForward * (float) add);
+            }
+            vessel.getAnimation().addStep(velocityForward);
+        }
+
+        int result = (int) (vessel.getAnimation().getCurrentStep() * 100);
+        vessel.getAnimation().tickAnimationTicks(velocityTurns * 100);
+
+        // check if the step is reached to the end, and dispose the movement
+        if (result >= 100) {
+            vessel.setX(end.x);
+            vessel.setY(end.y);
+            vessel.setMoving(false);
+
+            if (!move.isOneDimensionMove())
+                vessel.setRotationIndex(vessel.getRotationTargetIndex());
+
+            vessel.setMovePhase(MovePhase.getNext(vessel.getMovePhase()));
+            scene.recountVessels();
+
+            vessel.setMoveDelay();
+        }
+        else {
+            // process move
+            vessel.setX(current.x);
+            vessel.setY(current.y);
+        }
+
+        if (result >= 25 && result <= 50 && vessel.getAnimation().getTickIndex() == 0 ||
+                result >= 50 && result <= 75 && vessel.getAnimation().getTickIndex() == 1 ||
+                result >= 75 && result <= 100 && vessel.getAnimation().getTickIndex() == 2 ||
+                result >= 99 && vessel.getAnimation().getTickIndex() == 3 ) {
+            vessel.tickRotation();
+            vessel.getAnimation().setTickIndex(vessel.getAnimation().getTickIndex() + 1);
+        }
+
+    }
+}
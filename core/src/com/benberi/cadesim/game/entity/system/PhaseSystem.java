@@ -0,0 +1,79 @@
+package com.benberi.cadesim.game.entity.system;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.benberi.cadesim.GameContext;
+import com.benberi.cadesim.game.entity.component.Mappers;
+import com.benberi.cadesim.game.entity.component.MovingComponent;
+import com.benberi.cadesim.game.entity.component.SinkingComponent;
+import com.benberi.cadesim.game.entity.component.VesselComponent;
+import com.benberi.cadesim.game.entity.vessel.Vessel;
+import com.benberi.cadesim.game.entity.vessel.VesselMovementAnimation;
+import com.benberi.cadesim.game.entity.vessel.move.MoveAnimationTurn;
+import com.benberi.cadesim.game.entity.vessel.move.MovePhase;
+import com.benberi.cadesim.game.entity.vessel.move.MoveType;
+import com.benberi.cadesim.game.scene.impl.battle.SeaBattleScene;
+
+/**
+ * Starts the token and action moves of idle vessels during the turn animation
+ */
+public class PhaseSystem extends IteratingSystem {
+
+    private GameContext context;
+
+    private SeaBattleScene scene;
+
+    public PhaseSystem(GameContext context, SeaBattleScene scene, int priority) {
+        super(Family.all(VesselComponent.class).exclude(MovingComponent.class, SinkingComponent.class).get(), priority);
+        this.context = context;
+        this.scene = scene;
+    }
+
+    @Override
+    public boolean checkProcessing() {
+        return scene.getCurrentSlot() != -1 && scene.getCurrentPhase() != MovePhase.SHOOT;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Vessel vessel = Mappers.VESSEL.get(entity).getVessel();
+        MoveAnimationTurn turn = vessel.getStructure().getTurn(scene.getCurrentSlot());
+        MovePhase currentPhase = scene.getCurrentPhase();
+
+        if (currentPhase == MovePhase.MOVE_TOKEN && vessel.getMovePhase() == null) {
+            if (turn.getAnimation() != VesselMovementAnimation.NO_ANIMATION && vessel.getMoveDelay() == -1) {
+                if (!VesselMovementAnimation.isBump(turn.getAnimation())) {
+                    vessel.performMove(turn.getAnimation());
+
+                }
+                else {
+                    vessel.performBump(turn.getTokenUsed(), turn.getAnimation());
+                }
+
+                turn.setAnimation(VesselMovementAnimation.NO_ANIMATION);
+            }
+            else {
+                vessel.setMovePhase(MovePhase.getNext(vessel.getMovePhase()));
+                scene.recountVessels();
+
+            }
+        }
+        else if (currentPhase == MovePhase.ACTION_MOVE && vessel.getMovePhase() == MovePhase.MOVE_TOKEN && vessel.getMoveDelay() == -1 && !context.getEntities().hasDelayedVessels()) {
+            if (turn.getSubAnimation() != VesselMovementAnimation.NO_ANIMATION) {
+                if (!VesselMovementAnimation.isBump(turn.getSubAnimation())) {
+                    vessel.performMove(turn.getSubAnimation());
+
+                }
+                else {
+                    vessel.performBump(MoveType.NONE, turn.getSubAnimation());
+                }
+                turn.setSubAnimation(VesselMovementAnimation.NO_ANIMATION);
+            }
+            else {
+                vessel.setMovePhase(MovePhase.getNext(vessel.getMovePhase()));
+                scene.recountVessels();
+            }
+        }
+    }
+}
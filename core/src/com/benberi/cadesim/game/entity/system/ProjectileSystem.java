@@ -0,0 +1,44 @@
+package com.benberi.cadesim.game.entity.system;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.benberi.cadesim.GameContext;
+import com.benberi.cadesim.game.entity.component.Mappers;
+import com.benberi.cadesim.game.entity.component.ProjectileComponent;
+import com.benberi.cadesim.game.entity.projectile.CannonBall;
+
+/**
+ * Moves cannon balls in flight and replaces them by their splash or hit once they land
+ */
+public class ProjectileSystem extends IteratingSystem {
+
+    private GameContext context;
+
+    public ProjectileSystem(GameContext context, int priority) {
+        super(Family.all(ProjectileComponent.class).get(), priority);
+        this.context = context;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        ProjectileComponent projectile = Mappers.PROJECTILE.get(entity);
+        CannonBall c = projectile.getBall();
+        if (!c.isReleased()) {
+            return;
+        }
+
+        if (c.hasSubCannon()) {
+            if (c.canReleaseSubCannon()) {
+                c.getSubcannon().setReleased(true);
+            }
+        }
+        if (!c.reached()) {
+            c.move();
+        }
+        if (c.reached()) {
+            context.getEntities().spawnEffect(c.getEndingEffect(), c.getX(), c.getY());
+            context.getEntities().removeProjectile(entity);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.benberi.cadesim.game.entity.system;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.benberi.cadesim.GameContext;
+import com.benberi.cadesim.game.entity.component.Mappers;
+import com.benberi.cadesim.game.entity.component.MovingComponent;
+import com.benberi.cadesim.game.entity.component.SinkingComponent;
+import com.benberi.cadesim.game.entity.component.VesselComponent;
+import com.benberi.cadesim.game.entity.vessel.Vessel;
+import com.benberi.cadesim.game.entity.vessel.move.MoveAnimationTurn;
+import com.benberi.cadesim.game.entity.vessel.move.MovePhase;
+import com.benberi.cadesim.game.scene.impl.battle.SeaBattleScene;
+import com.benberi.cadesim.game.scene.impl.battle.map.BlockadeMap;
+
+/**
+ * Fires the cannons of idle vessels in the shoot phase of the turn animation
+ */
+public class ShootSystem extends IteratingSystem {
+
+    private GameContext context;
+
+    private SeaBattleScene scene;
+
+    /**
+     * If the vessel occupancy grid was updated this frame
+     */
+    private boolean occupancyUpdated;
+
+    public ShootSystem(GameContext context, SeaBattleScene scene, int priority) {
+        super(Family.all(VesselComponent.class).exclude(MovingComponent.class, SinkingComponent.class).get(), priority);
+        this.context = context;
+        this.scene = scene;
+    }
+
+    @Override
+    public boolean checkProcessing() {
+        return scene.getCurrentSlot() != -1 && scene.getCurrentPhase() == MovePhase.SHOOT;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        occupancyUpdated = false;
+        super.update(deltaTime);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Vessel vessel = Mappers.VESSEL.get(entity).getVessel();
+        MoveAnimationTurn turn = vessel.getStructure().getTurn(scene.getCurrentSlot());
+
+        if (vessel.getMovePhase() == MovePhase.ACTION_MOVE  && vessel.getMoveDelay() == -1 && vessel.getCannonballsInFlight() == 0 && !context.getEntities().hasDelayedVessels()) {
+            if (turn.getLeftShoots() == 0 && turn.getRightShoots() == 0) {
+                vessel.setMovePhase(MovePhase.getNext(vessel.getMovePhase()));
+                scene.recountVessels();
+            }
+            else {
+                if (!occupancyUpdated) {
+                    BlockadeMap map = scene.getMap();
+                    context.getEntities().updateOccupancy(map.getWidth(), map.getHeight());
+                    occupancyUpdated = true;
+                }
+                if (turn.getLeftShoots() > 0) {
+                    vessel.performLeftShoot(turn.getLeftShoots());
+                    turn.setLeftShoots(0);
+                }
+                if (turn.getRightShoots() > 0) {
+                    vessel.performRightShoot(turn.getRightShoots());
+                    turn.setRightShoots(0);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.benberi.cadesim.game.entity.system;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.benberi.cadesim.game.entity.component.Mappers;
+import com.benberi.cadesim.game.entity.component.ProjectileComponent;
+import com.benberi.cadesim.game.entity.effect.Effect;
+import com.benberi.cadesim.game.entity.projectile.CannonBall;
+import com.benberi.cadesim.game.scene.impl.battle.SeaBattleScene;
+
+/**
+ * Draws cannon balls in flight, splashes, hits and shoot smoke
+ *
+ * This system does not run on engine updates, the battle scene calls {@link #render(SpriteBatch)}
+ * while its batch is drawing.
+ */
+public class ShotRenderSystem extends EntitySystem {
+
+    private SeaBattleScene scene;
+
+    private ImmutableArray<Entity> projectiles;
+
+    private EffectSystem effects;
+
+    public ShotRenderSystem(SeaBattleScene scene, EffectSystem effects) {
+        this.scene = scene;
+        this.effects = effects;
+        setProcessing(false);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        projectiles = engine.getEntitiesFor(Family.all(ProjectileComponent.class).get());
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        projectiles = null;
+    }
+
+    /**
+     * Draws all shots
+     * @param batch The batch, which must be drawing
+     */
+    public void render(SpriteBatch batch) {
+        for (int i = 0; i < projectiles.size(); i++) {
+            CannonBall c = Mappers.PROJECTILE.get(projectiles.get(i)).getBall();
+            float cx = scene.getIsometricX(c.getX(), c.getY(), c);
+            float cy = scene.getIsometricY(c.getX(), c.getY(), c);
+            if (!scene.canDraw(cx, cy, c.getRegionWidth(), c.getRegionHeight())) {
+                continue;
+            }
+
+            batch.draw(c, cx, cy);
+        }
+
+        Array<Effect> playing = effects.getEffects();
+        for (int i = 0; i < playing.size; i++) {
+            Effect effect = playing.get(i);
+            TextureRegion r = effect.getRegion();
+            float cx = scene.getIsometricX(effect.getX(), effect.getY(), r);
+            float cy = scene.getIsometricY(effect.getX(), effect.getY(), r);
+            if (scene.canDraw(cx, cy, r.getRegionWidth(), r.getRegionHeight())) {
+                batch.draw(r, cx, cy);
+            }
+        }
+    }
+}
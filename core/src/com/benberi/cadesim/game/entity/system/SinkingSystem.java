@@ -0,0 +1,33 @@
+package com.benberi.cadesim.game.entity.system;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.benberi.cadesim.game.entity.component.Mappers;
+import com.benberi.cadesim.game.entity.component.SinkingComponent;
+import com.benberi.cadesim.game.entity.component.VesselComponent;
+import com.benberi.cadesim.game.entity.vessel.Vessel;
+
+/**
+ * Plays the sinking animation of sinking vessels
+ */
+public class SinkingSystem extends IteratingSystem {
+
+    public SinkingSystem(int priority) {
+        super(Family.all(VesselComponent.class, SinkingComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Vessel vessel = Mappers.VESSEL.get(entity).getVessel();
+        if (vessel.isSinkingAnimationFinished()) {
+            return;
+        }
+        if (!vessel.isSinkingTexture()) {
+            vessel.tickNonSinkingTexture();
+        }
+        else {
+            vessel.tickSinkingTexture();
+        }
+    }
+}
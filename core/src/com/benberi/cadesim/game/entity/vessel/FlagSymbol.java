@@ -1,27 +1,51 @@
 package com.benberi.cadesim.game.entity.vessel;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.benberi.cadesim.game.cade.Team;
 
+/**
+ * A flag symbol shown above a vessel, shared by all vessels, see {@link com.benberi.cadesim.game.scene.TextureCollection#getFlagSymbol}
+ */
 public class FlagSymbol extends TextureRegion {
 
-    private int size;
+    /**
+     * Symbol dimensions in the symbols spritesheet
+     */
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 13;
 
-    private Team team;
+    /**
+     * The first column of each symbol group in the spritesheet, followed by the symbols of size 2 and 3
+     */
+    public static final int LOCAL_COLUMN = 0;
+    public static final int WAR_COLUMN = 120;
 
-    private boolean war;
+    /**
+     * The largest flag size
+     */
+    public static final int MAX_SIZE = 3;
+
+    private int size;
 
-    private boolean isBlue;
+    private boolean war;
 
-    public FlagSymbol(int size, boolean atWar, Team controllerTeam) {
+    public FlagSymbol(TextureRegion symbols, int column, int size, boolean war) {
+        super(symbols, column + (size - 1) * WIDTH, 0, WIDTH, HEIGHT);
         this.size = size;
-        this.war = atWar;
-        this.team = controllerTeam;
+        this.war = war;
     }
 
-    public void setLocal(boolean b) {
-        this.isBlue = b;
+    /**
+     * Gets the first column of the symbols of a team
+     */
+    public static int getTeamColumn(Team team) {
+        switch (team) {
+            case RED:
+                return 60;
+            case GREEN:
+            default:
+                return 30;
+        }
     }
 
     public int getSize() {
@@ -31,66 +55,4 @@ public class FlagSymbol extends TextureRegion {
     public boolean isWar() {
         return this.war;
     }
-
-    public void createTexture() {
-        setTexture(new Texture("core/assets/cade/buoy_symbols.png"));
-        if (isBlue) {
-            switch (size) {
-                case 1:
-                    setRegion(0, 0, 10, 13);
-                    break;
-                case 2:
-                    setRegion(10, 0, 10, 13);
-                    break;
-                case 3:
-                    setRegion(20, 0, 10, 13);
-                    break;
-            }
-            return;
-        }
-        else if (war) {
-            switch (size) {
-                case 1:
-                    setRegion(120, 0, 10, 13);
-                    break;
-                case 2:
-                    setRegion(130, 0, 10, 13);
-                    break;
-                case 3:
-                    setRegion(140, 0, 10, 13);
-                    break;
-            }
-            return;
-        }
-        else {
-            switch (team) {
-                case RED:
-                    switch (size) {
-                        case 1:
-                            setRegion(60, 0, 10, 13);
-                            break;
-                        case 2:
-                            setRegion(70, 0, 10, 13);
-                            break;
-                        case 3:
-                            setRegion(80, 0, 10, 13);
-                            break;
-                    }
-                    break;
-                case GREEN:
-                    switch (size) {
-                        case 1:
-                            setRegion(30, 0, 10, 13);
-                            break;
-                        case 2:
-                            setRegion(40, 0, 10, 13);
-                            break;
-                        case 3:
-                            setRegion(50, 0, 10, 13);
-                            break;
-                    }
-                    break;
-            }
-        }
-    }
 }
@@ -1,5 +1,6 @@
 package com.benberi.cadesim.game.entity.vessel;
 
+import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
@@ -10,19 +11,24 @@ import com.badlogic.gdx.math.Vector2;
 import com.benberi.cadesim.GameContext;
 import com.benberi.cadesim.game.cade.Team;
 import com.benberi.cadesim.game.entity.Entity;
+import com.benberi.cadesim.game.entity.EntityManager;
+import com.benberi.cadesim.game.entity.component.*;
 import com.benberi.cadesim.game.entity.projectile.CannonBall;
+import com.benberi.cadesim.game.entity.projectile.CannonType;
 import com.benberi.cadesim.game.entity.vessel.move.MoveAnimationStructure;
 import com.benberi.cadesim.game.entity.vessel.move.MovePhase;
 import com.benberi.cadesim.game.entity.vessel.move.MoveType;
 import com.benberi.cadesim.game.entity.vessel.move.VesselMoveTurn;
 import com.benberi.cadesim.game.scene.TextureCollection;
-import com.benberi.cadesim.game.scene.impl.battle.map.GameObject;
-import com.benberi.cadesim.game.scene.impl.battle.map.tile.impl.BigRock;
+import com.benberi.cadesim.game.scene.impl.battle.map.BlockadeMap;
 import com.benberi.cadesim.game.scene.impl.battle.map.tile.impl.Flag;
 import com.benberi.cadesim.util.OrientationLocation;
+import com.benberi.cadesim.util.PackedObjectOrientation;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a vessel abstraction
@@ -36,6 +42,21 @@ public abstract class Vessel extends Entity {
      */
     private String name;
 
+    /**
+     * The position of this vessel in the vessel list of the entity manager
+     */
+    private int listIndex = -1;
+
+    /**
+     * The ship type this vessel was created for, see {@link VesselFactory}
+     */
+    private int shipType;
+
+    /**
+     * The engine entity of this vessel, <code>null</code> if the vessel is not in the game
+     */
+    private com.badlogic.ashley.core.Entity engineEntity;
+
     /**
      * If the vessel is moving
      */
@@ -56,6 +77,13 @@ public abstract class Vessel extends Entity {
      */
     private VesselAnimationVector animation;
 
+    /**
+     * The move and bump vectors of this vessel, set up again for every move instead of allocated
+     */
+    private VesselAnimationVector moveAnimation = new VesselAnimationVector();
+    private VesselBumpVector bump = new VesselBumpVector();
+    private Vector2 moveTarget = new Vector2();
+
     /**
      * Current performing move
      */
@@ -85,12 +113,6 @@ public abstract class Vessel extends Entity {
 
     private int numberOfMoves;
 
-    protected TextureRegion shootSmoke;
-
-    private boolean isSmoking;
-
-    private int smokeTicks;
-
     private boolean isSinking;
 
     private boolean isSinkingTexture;
@@ -103,13 +125,23 @@ public abstract class Vessel extends Entity {
     private List<FlagSymbol> flags = new ArrayList<>();
 
     /**
-     * The cannon balls that were shoot
+     * The laid out texts shown above the vessel
+     */
+    private VesselLabel label = new VesselLabel();
+
+    /**
+     * The cannon balls shoot by this vessel that did not land yet
      */
-    private List<CannonBall> cannonballs = new ArrayList<CannonBall>();
+    private int cannonballsInFlight;
     private int moveDelay;
     private boolean bumpReached;
     private boolean sinkingAnimationFinished = true;
 
+    /**
+     * The orientation packs of this vessel by file, kept for as long as the vessel is pooled
+     */
+    private Map<String, PackedObjectOrientation> orientations = new HashMap<String, PackedObjectOrientation>();
+
     public Vessel(GameContext context, String name, int x, int y) {
         super(context);
         this.name = name;
@@ -117,9 +149,81 @@ public abstract class Vessel extends Entity {
         turn = new VesselMoveTurn();
     }
 
+    /**
+     * Resets the vessel for reuse by another player, keeping its orientation packs
+     * and animation structure
+     * @param name  The new player name
+     * @param x     The spawn x
+     * @param y     The spawn y
+     */
+    public void reset(String name, int x, int y) {
+        this.name = name;
+        this.setPosition(x, y);
+        turn = new VesselMoveTurn();
+
+        isMoving = false;
+        rotationTargetIndex = -1;
+        animation = null;
+        currentPerformingMove = null;
+        structure.reset();
+        team = null;
+        scoreDisplayMovement = 0;
+        finishedPhase = null;
+        numberOfMoves = 0;
+        isSinking = false;
+        isSinkingTexture = false;
+        sinkingTicks = 0;
+        isBumping = false;
+        bumpVector = null;
+        flags.clear();
+        label.invalidate();
+        cannonballsInFlight = 0;
+        moveDelay = 0;
+        bumpReached = false;
+        sinkingAnimationFinished = true;
+    }
+
+    public com.badlogic.ashley.core.Entity getEngineEntity() {
+        return engineEntity;
+    }
+
+    /**
+     * Attaches the vessel to its engine entity, adding the components for its current state
+     */
+    public void setEngineEntity(com.badlogic.ashley.core.Entity engineEntity) {
+        this.engineEntity = engineEntity;
+        setComponent(MovingComponent.class, isMoving);
+        setComponent(BumpingComponent.class, isBumping);
+        setComponent(DelayComponent.class, hasDelay());
+        setComponent(SinkingComponent.class, isSinking);
+    }
+
+    /**
+     * Adds or removes a state component, which decides the systems that update this vessel
+     */
+    private void setComponent(Class<? extends Component> type, boolean present) {
+        if (engineEntity == null) {
+            return;
+        }
+        if (!present) {
+            engineEntity.remove(type);
+        }
+        else if (engineEntity.getComponent(type) == null) {
+            engineEntity.add(getContext().getEntities().getEngine().createComponent(type));
+        }
+    }
+
+    public int getShipType() {
+        return shipType;
+    }
+
+    public void setShipType(int shipType) {
+        this.shipType = shipType;
+    }
+
     public void setBumpReached(boolean bump) {
         this.bumpReached = bump;
-        bumpVector = new VesselBumpVector(bumpVector.getEnd(), bumpVector.getStart(), bumpVector.getMove());
+        bumpVector.reverse();
     }
 
     public void setMovePhase(MovePhase phase) {
@@ -179,37 +283,39 @@ public abstract class Vessel extends Entity {
      * @param move The move to perform
      */
     public void performMove(VesselMovementAnimation move) {
-        Vector2 start = new Vector2(this.getX(), this.getY());
-        Vector2 currentAnimationLocation = start.cpy();
         this.currentPerformingMove = move;
 
-        Vector2 inbetween = null;
+        float startX = this.getX();
+        float startY = this.getY();
+        moveAnimation.set(startX, startY, startX + move.getIncrementXForRotation(rotationIndex),
+                startY + move.getIncrementYForRotation(rotationIndex));
+
         if (move != VesselMovementAnimation.MOVE_FORWARD) {
             if (!move.isWhirlpoolMove()) {
                 // Get the inbetween block by using forward
-                inbetween = new Vector2(start.x + VesselMovementAnimation.MOVE_FORWARD.getIncrementXForRotation(rotationIndex),
-                        start.y + VesselMovementAnimation.MOVE_FORWARD.getIncrementYForRotation(rotationIndex));
+                moveAnimation.setInbetween(startX + VesselMovementAnimation.MOVE_FORWARD.getIncrementXForRotation(rotationIndex),
+                        startY + VesselMovementAnimation.MOVE_FORWARD.getIncrementYForRotation(rotationIndex));
             }
             else {
-                inbetween = move.getInbetweenWhirlpool(start);
+                Vector2 inbetween = move.getInbetweenWhirlpool(moveAnimation.getStartPoint(), moveTarget);
+                moveAnimation.setInbetween(inbetween.x, inbetween.y);
             }
             this.rotationTargetIndex = move.getRotationTargetIndex(rotationIndex);
         }
 
-        Vector2 end = new Vector2(start.x + move.getIncrementXForRotation(rotationIndex),
-                start.y + move.getIncrementYForRotation(rotationIndex));
-
-        Vector2 linear = start.cpy();
-        this.animation = new VesselAnimationVector(start, inbetween, end, currentAnimationLocation, linear);
+        this.animation = moveAnimation;
         setMoving(true);
     }
 
     public void performBump(MoveType move, VesselMovementAnimation animation) {
         this.isBumping = true;
         this.isMoving = true;
+        setComponent(BumpingComponent.class, true);
+        setComponent(MovingComponent.class, true);
         currentPerformingMove = animation;
-        Vector2 target = animation.getBumpTargetPosition(rotationIndex);
-        bumpVector = new VesselBumpVector(new Vector2(getX(), getY()), new Vector2(getX() + target.x, getY() + target.y), move);
+        Vector2 target = animation.getBumpTargetPosition(rotationIndex, moveTarget);
+        bump.set(getX(), getY(), getX() + target.x, getY() + target.y, move);
+        bumpVector = bump;
         tickBumpRotation(1);
     }
 
@@ -240,20 +346,26 @@ public abstract class Vessel extends Entity {
 
     public void setBumping(boolean bump) {
         this.isBumping = false;
+        setComponent(BumpingComponent.class, false);
     }
 
     public String getName() {
         return this.name;
     }
 
-    public boolean isSmoking() {
-        return this.isSmoking;
+    public int getListIndex() {
+        return listIndex;
+    }
+
+    public void setListIndex(int listIndex) {
+        this.listIndex = listIndex;
     }
 
     public void tickMoveDelay() {
         moveDelay -= 100 * Gdx.graphics.getDeltaTime();
         if (moveDelay <= 0) {
             moveDelay = -1;
+            setComponent(DelayComponent.class, false);
         }
     }
 
@@ -275,18 +387,8 @@ public abstract class Vessel extends Entity {
         return this.flags;
     }
 
-    public void tickSmoke() {
-        if (smokeTicks >= 5) {
-            shootSmoke.setRegion(shootSmoke.getRegionX() + 40, 0, 40, 30);
-            if (shootSmoke.getRegionX() > shootSmoke.getTexture().getWidth()) {
-                isSmoking = false;
-                shootSmoke.setRegion(0, 0, 40, 30);
-            }
-            smokeTicks = 0;
-        }
-        else {
-            smokeTicks += 100 * Gdx.graphics.getDeltaTime();
-        }
+    public VesselLabel getLabel() {
+        return label;
     }
 
     /**
@@ -317,6 +419,7 @@ public abstract class Vessel extends Entity {
      */
     public void setMoving(boolean flag) {
         this.isMoving = flag;
+        setComponent(MovingComponent.class, flag);
     }
 
     /**
@@ -335,10 +438,6 @@ public abstract class Vessel extends Entity {
         return this.rotationIndex;
     }
 
-    public TextureRegion getShootSmoke() {
-        return shootSmoke;
-    }
-
     /**
      * Ticks up to next rotation
      */
@@ -393,105 +492,65 @@ public abstract class Vessel extends Entity {
         }
     }
 
-    private Vector2 getClosestLeftCannonCollide() {
+    /**
+     * Gets the line of fire direction of the left side cannons
+     * @return The direction, see {@link BlockadeMap}, or -1 if the vessel is not facing a map axis
+     */
+    private int getLeftFireDirection() {
         switch (rotationIndex) {
             case 2:
-                for (int i = 1; i < 4; i++) {
-                    float x = getX();
-                    float  y = getY() + i;
-                    Vessel vessel = getContext().getEntities().getVesselByPosition(x, y);
-                    GameObject object = getContext().getBattleScene().getMap().getObject(x, y);
-                    if (vessel != null || object != null && object instanceof BigRock) {
-                        return new Vector2(x, y);
-                    }
-                }
-                return new Vector2(getX(), getY() + 3);
+                return BlockadeMap.DIRECTION_PLUS_Y;
             case 6:
-                for (int i = 1; i < 4; i++) {
-                    float x = getX() + i;
-                    float  y = getY();
-                    Vessel vessel = getContext().getEntities().getVesselByPosition(x, y);
-                    GameObject object = getContext().getBattleScene().getMap().getObject(x, y);
-                    if (vessel != null || object != null && object instanceof BigRock) {
-                        return new Vector2(x, y);
-                    }
-                }
-                return new Vector2(getX() + 3, getY());
+                return BlockadeMap.DIRECTION_PLUS_X;
             case 10:
-                for (int i = 1; i < 4; i++) {
-                    float x = getX();
-                    float  y = getY() - i;
-                    Vessel vessel = getContext().getEntities().getVesselByPosition(x, y);
-                    GameObject object = getContext().getBattleScene().getMap().getObject(x, y);
-                    if (vessel != null || object != null && object instanceof BigRock) {
-                        return new Vector2(x, y);
-                    }
-                }
-                return new Vector2(getX(), getY() - 3);
+                return BlockadeMap.DIRECTION_MINUS_Y;
             case 14:
-                for (int i = 1; i < 4; i++) {
-                    float x = getX() - i;
-                    float  y = getY();
-                    Vessel vessel = getContext().getEntities().getVesselByPosition(x, y);
-                    GameObject object = getContext().getBattleScene().getMap().getObject(x, y);
-                    if (vessel != null || object != null && object instanceof BigRock) {
-                        return new Vector2(x, y);
-                    }
-                }
-                return new Vector2(getX() - 3, getY());
+                return BlockadeMap.DIRECTION_MINUS_X;
         }
-        return new Vector2(getX(), getY());
+        return -1;
     }
 
-
-    public Vector2 getClosestRightCannonCollide() {
+    /**
+     * Gets the line of fire direction of the right side cannons
+     * @return The direction, see {@link BlockadeMap}, or -1 if the vessel is not facing a map axis
+     */
+    private int getRightFireDirection() {
         switch (rotationIndex) {
             case 2:
-                for (int i = 1; i < 4; i++) {
-                    float x = getX();
-                    float  y = getY() - i;
-                    Vessel vessel = getContext().getEntities().getVesselByPosition(x, y);
-                    GameObject object = getContext().getBattleScene().getMap().getObject(x, y);
-                    if (vessel != null || object != null && object instanceof BigRock) {
-                        return new Vector2(x, y);
-                    }
-                }
-                return new Vector2(getX(), getY() - 3);
+                return BlockadeMap.DIRECTION_MINUS_Y;
             case 6:
-                for (int i = 1; i < 4; i++) {
-                    float x = getX() - i;
-                    float  y = getY();
-                    Vessel vessel = getContext().getEntities().getVesselByPosition(x, y);
-                    GameObject object = getContext().getBattleScene().getMap().getObject(x, y);
-                    if (vessel != null || object != null && object instanceof BigRock) {
-                        return new Vector2(x, y);
-                    }
-                }
-                return new Vector2(getX() - 3, getY());
+                return BlockadeMap.DIRECTION_MINUS_X;
             case 10:
-                for (int i = 1; i < 4; i++) {
-                    float x = getX();
-                    float  y = getY() + i;
-                    Vessel vessel = getContext().getEntities().getVesselByPosition(x, y);
-                    GameObject object = getContext().getBattleScene().getMap().getObject(x, y);
-                    if (vessel != null || object != null && object instanceof BigRock) {
-                        return new Vector2(x, y);
-                    }
-                }
-                return new Vector2(getX(), getY() + 3);
+                return BlockadeMap.DIRECTION_PLUS_Y;
             case 14:
-                for (int i = 1; i < 4; i++) {
-                    float x = getX() + i;
-                    float  y = getY();
-                    Vessel vessel = getContext().getEntities().getVesselByPosition(x, y);
-                    GameObject object = getContext().getBattleScene().getMap().getObject(x, y);
-                    if (vessel != null || object != null && object instanceof BigRock) {
-                        return new Vector2(x, y);
-                    }
-                }
-                return new Vector2(getX() + 3, getY());
+                return BlockadeMap.DIRECTION_PLUS_X;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds where a cannon ball fired in the given direction stops, using the precomputed rock
+     * distances of the map and the vessel occupancy grid of {@link com.benberi.cadesim.game.entity.EntityManager}
+     * @param direction The line of fire direction
+     * @return The distance to the cell the ball stops at, negated if nothing is hit there
+     */
+    private int getCannonTargetDistance(int direction) {
+        int x = Math.round(getX());
+        int y = Math.round(getY());
+        int stepX = BlockadeMap.getDirectionX(direction);
+        int stepY = BlockadeMap.getDirectionY(direction);
+
+        int rock = getContext().getBattleScene().getMap().getRockDistance(x, y, direction);
+        int range = rock == 0 ? BlockadeMap.FIRE_RANGE : rock;
+        for (int i = 1; i < range; i++) {
+            if (getContext().getEntities().getVesselAt(x + stepX * i, y + stepY * i) != null) {
+                return i;
+            }
+        }
+        if (rock != 0 || getContext().getEntities().getVesselAt(x + stepX * range, y + stepY * range) != null) {
+            return range;
         }
-        return new Vector2(getX(), getY());
+        return -range;
     }
 
     /**
@@ -501,77 +560,71 @@ public abstract class Vessel extends Entity {
 
     public abstract float getInfluenceRadius();
 
-    public abstract CannonBall createCannon(GameContext ctx, Vessel source, Vector2 target);
+    public abstract CannonType getCannonType();
 
     public abstract VesselMoveType getMoveType();
 
     public abstract void setDefaultTexture();
     public abstract void setSinkingTexture();
 
-    public List<CannonBall> getCannonballs() {
-        return this.cannonballs;
+    public int getCannonballsInFlight() {
+        return cannonballsInFlight;
+    }
+
+    public void setCannonballsInFlight(int cannonballsInFlight) {
+        this.cannonballsInFlight = cannonballsInFlight;
     }
 
     public void performLeftShoot(int leftShoots) {
-        if (leftShoots == 1) {
-            Vector2 target = getClosestLeftCannonCollide();
-            CannonBall ball = createCannon(getContext(), this, target);
-            if (getContext().getEntities().getVesselByPosition(target.x, target.y) != null || getContext().getBattleScene().getMap().getObject(target.x, target.y) instanceof BigRock) {
-                ball.setExplodeOnReach(true);
-            }
-            cannonballs.add(ball);
-        }
-        else if (leftShoots == 2) {
-            Vector2 target = getClosestLeftCannonCollide();
+        performShoot(getLeftFireDirection(), leftShoots);
+    }
 
-            CannonBall ball1 = createCannon(getContext(), this, target);
-            CannonBall ball2 = createCannon(getContext(), this, target);
+    public void performRightShoot(int rightShoots) {
+        performShoot(getRightFireDirection(), rightShoots);
+    }
 
-            if (getContext().getEntities().getVesselByPosition(target.x, target.y) != null || getContext().getBattleScene().getMap().getObject(target.x, target.y) instanceof BigRock) {
-                ball1.setExplodeOnReach(true);
-                ball2.setExplodeOnReach(true);
-            }
-            ball2.setReleased(false);
+    private void performShoot(int direction, int shoots) {
+        float targetX = Math.round(getX());
+        float targetY = Math.round(getY());
+        boolean hit = false;
 
-            ball1.setSubcannon(ball2);
-            cannonballs.add(ball1);
-            cannonballs.add(ball2);
+        // Not facing an axis: fire at our own tile, as the old per-side lookups did
+        if (direction != -1) {
+            int distance = getCannonTargetDistance(direction);
+            hit = distance > 0;
+            distance = Math.abs(distance);
+            targetX += BlockadeMap.getDirectionX(direction) * distance;
+            targetY += BlockadeMap.getDirectionY(direction) * distance;
         }
-        shootSmoke.setRegion(0, 0, 40, 30);
-        isSmoking = true;
 
-    }
-
-    public void performRightShoot(int rightShoots) {
-        if (rightShoots == 1) {
-            Vector2 target = getClosestRightCannonCollide();
-            CannonBall ball = createCannon(getContext(), this, target);
-            if (getContext().getEntities().getVesselByPosition(target.x, target.y) != null) {
-                ball.setExplodeOnReach(true);
-            }
-            cannonballs.add(ball);
+        CannonType cannon = getCannonType();
+        TextureRegion ballTexture = getContext().getTextures().getMisc(cannon.getBall());
+        EntityManager entities = getContext().getEntities();
+        if (shoots == 1) {
+            CannonBall ball = entities.obtainCannonBall();
+            ball.init(this, targetX, targetY, ballTexture, cannon.getSplash());
+            ball.setExplodeOnReach(hit);
+            entities.addProjectile(this, ball);
         }
-        else if (rightShoots == 2) {
-            Vector2 target = getClosestRightCannonCollide();
-
-            CannonBall ball1 = createCannon(getContext(), this, target);
-            CannonBall ball2 = createCannon(getContext(), this, target);
-            if (getContext().getEntities().getVesselByPosition(target.x, target.y) != null) {
-                ball1.setExplodeOnReach(true);
-                ball2.setExplodeOnReach(true);
-            }
+        else if (shoots == 2) {
+            CannonBall ball1 = entities.obtainCannonBall();
+            CannonBall ball2 = entities.obtainCannonBall();
+            ball1.init(this, targetX, targetY, ballTexture, cannon.getSplash());
+            ball2.init(this, targetX, targetY, ballTexture, cannon.getSplash());
+            ball1.setExplodeOnReach(hit);
+            ball2.setExplodeOnReach(hit);
             ball2.setReleased(false);
 
             ball1.setSubcannon(ball2);
-            cannonballs.add(ball1);
-            cannonballs.add(ball2);
+            entities.addProjectile(this, ball1);
+            entities.addProjectile(this, ball2);
         }
-        shootSmoke.setRegion(0, 0, 40, 30);
-        isSmoking = true;
+        entities.spawnEffect(cannon.getSmoke(), getX(), getY());
     }
 
     public void setSinking(boolean sinking) {
         this.isSinking = sinking;
+        setComponent(SinkingComponent.class, sinking);
         if (!isSinking) {
             setDefaultTexture();
             isSinkingTexture = false;
@@ -584,6 +637,7 @@ public abstract class Vessel extends Entity {
 
     public void setMoveDelay() {
         this.moveDelay = 70;
+        setComponent(DelayComponent.class, true);
     }
 
 
@@ -630,6 +684,9 @@ public abstract class Vessel extends Entity {
         bumpReached = false;
         isMoving = false;
         moveDelay = 40;
+        setComponent(BumpingComponent.class, false);
+        setComponent(MovingComponent.class, false);
+        setComponent(DelayComponent.class, true);
     }
 
     public void setTeam(Team team) {
@@ -640,12 +697,41 @@ public abstract class Vessel extends Entity {
         return this.team;
     }
 
+    /**
+     * If this is the local vessel or a vessel of the local team, which are drawn in the default colors
+     */
+    public boolean isFriendly() {
+        return getContext().myVessel.equals(this.name) || getContext().myTeam.getID() == getTeam().getID();
+    }
+
+    /**
+     * Gets the texture to draw this vessel with
+     *
+     * Enemy vessels use the shared texture as well when the team palette shader is available, they
+     * are recolored while drawing, otherwise they use a recolored copy shared by all vessels of the team.
+     */
     protected Texture getVesselTexture(String v) {
-        Texture t = getContext().getTextures().getVessel(v);
-        if (getContext().myVessel.equals(this.name) || getContext().myTeam.getID() == getTeam().getID()) {
-            return t;
+        if (isFriendly() || getContext().getTextures().getPaletteShader() != null) {
+            return getContext().getTextures().getVessel(v);
+        }
+        return getContext().getTextures().getVesselForTeam(v, getTeam());
+    }
+
+    /**
+     * Switches to the given texture and orientation pack, the pack is loaded only once per vessel
+     * @param texture       The vessel texture name
+     * @param orientation   The orientation pack file
+     */
+    protected void setVesselTexture(String texture, String orientation) {
+        this.setTexture(getVesselTexture(texture));
+
+        PackedObjectOrientation pack = orientations.get(orientation);
+        if (pack == null) {
+            pack = getContext().getTools().getGson().fromJson(Gdx.files.internal(orientation).readString(),
+                    PackedObjectOrientation.class);
+            orientations.put(orientation, pack);
         }
-        return TextureCollection.prepareTextureForTeam(t, getTeam());
+        this.setOrientationPack(pack);
     }
 
     public void tickScoreMovement() {
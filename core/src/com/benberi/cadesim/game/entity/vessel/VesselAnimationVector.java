@@ -26,6 +26,11 @@ public class VesselAnimationVector {
      */
     private Vector2 inbetween;
 
+    /**
+     * If the move has an inbetween position
+     */
+    private boolean hasInbetween;
+
     /**
      * Animation ending position
      */
@@ -43,10 +48,47 @@ public class VesselAnimationVector {
     public VesselAnimationVector(Vector2 start, Vector2 inbetween, Vector2 end, Vector2 currentAnimationLocation, Vector2 linear) {
         this.start = start;
         this.inbetween = inbetween;
+        this.hasInbetween = inbetween != null;
         this.end = end;
         this.currentAnimationLocation = currentAnimationLocation;
     }
 
+    /**
+     * Creates an animation vector to be set up by {@link #set(float, float, float, float)} for each move
+     */
+    public VesselAnimationVector() {
+        this(new Vector2(), new Vector2(), new Vector2(), new Vector2(), null);
+    }
+
+    /**
+     * Sets up this vector for a new move, without an inbetween position
+     * @param startX    The start x
+     * @param startY    The start y
+     * @param endX      The end x
+     * @param endY      The end y
+     */
+    public void set(float startX, float startY, float endX, float endY) {
+        start.set(startX, startY);
+        end.set(endX, endY);
+        currentAnimationLocation.set(startX, startY);
+        hasInbetween = false;
+        currentStep = 0;
+        animationTicks = 0;
+        tickIndex = 0;
+        lastAnimationUpdate = 0;
+    }
+
+    /**
+     * Sets the inbetween position of the move, after {@link #set(float, float, float, float)}
+     */
+    public void setInbetween(float x, float y) {
+        if (inbetween == null) {
+            inbetween = new Vector2();
+        }
+        inbetween.set(x, y);
+        hasInbetween = true;
+    }
+
     public Vector2 getCurrentAnimationLocation() {
         return this.currentAnimationLocation;
     }
@@ -100,6 +142,6 @@ public class VesselAnimationVector {
      * @return {@link #inbetween}
      */
     public Vector2 getInbetweenPoint() {
-        return this.inbetween;
+        return hasInbetween ? this.inbetween : null;
     }
 }
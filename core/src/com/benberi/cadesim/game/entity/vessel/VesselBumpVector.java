@@ -29,6 +29,41 @@ public class VesselBumpVector {
         this.move = move;
     }
 
+    /**
+     * Creates a bump vector to be set up by {@link #set(float, float, float, float, MoveType)} for each bump
+     */
+    public VesselBumpVector() {
+        this.start = new Vector2();
+        this.end = new Vector2();
+    }
+
+    /**
+     * Sets up this vector for a new bump
+     */
+    public void set(float startX, float startY, float endX, float endY, MoveType move) {
+        start.set(startX, startY);
+        end.set(endX, endY);
+
+        distance = start.dst(end);
+
+        directionX = (end.x - start.x) / distance;
+        directionY = (end.y - start.y) / distance;
+        this.move = move;
+        this.playedMiddleAnimation = false;
+    }
+
+    /**
+     * Turns this vector around, for the vessel going back after the bump is reached
+     */
+    public void reverse() {
+        Vector2 previousStart = start;
+        start = end;
+        end = previousStart;
+        directionX = -directionX;
+        directionY = -directionY;
+        playedMiddleAnimation = false;
+    }
+
     public Vector2 getStart() {
         return start;
     }
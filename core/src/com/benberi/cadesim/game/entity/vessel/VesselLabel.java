@@ -0,0 +1,86 @@
+package com.benberi.cadesim.game.entity.vessel;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+
+/**
+ * The texts shown above a vessel, laid out once and only laid out again when the name, color or points change
+ */
+public class VesselLabel {
+
+    /**
+     * The laid out name and the state it was laid out for
+     */
+    private BitmapFontCache name;
+    private String nameText;
+    private Color nameColor = new Color();
+    private float nameWidth;
+
+    /**
+     * The laid out "+N points" text and the points it was laid out for
+     */
+    private BitmapFontCache points;
+    private int pointsValue;
+    private Color pointsColor = new Color();
+
+    /**
+     * Forgets the laid out texts, for a vessel reused by another player
+     */
+    public void invalidate() {
+        nameText = null;
+        pointsValue = 0;
+    }
+
+    /**
+     * Draws the name of the vessel centered on the given position
+     * @param batch     The batch
+     * @param font      The font
+     * @param text      The vessel name
+     * @param color     The name color
+     * @param centerX   The horizontal center of the name
+     * @param y         The top of the name
+     */
+    public void drawName(Batch batch, BitmapFont font, String text, Color color, float centerX, float y) {
+        if (name == null || name.getFont() != font) {
+            name = font.newFontCache();
+            nameText = null;
+        }
+        if (!text.equals(nameText) || !color.equals(nameColor)) {
+            name.setColor(color);
+            GlyphLayout layout = name.setText(text, 0, 0);
+            nameWidth = layout.width;
+            nameText = text;
+            nameColor.set(color);
+        }
+        name.setPosition(centerX - nameWidth / 2, y);
+        name.draw(batch);
+    }
+
+    /**
+     * Draws the points scored by the vessel
+     * @param batch     The batch
+     * @param font      The font
+     * @param value     The scored points
+     * @param color     The text color
+     * @param alpha     The text opacity, for fading out
+     * @param x         The left of the text
+     * @param y         The top of the text
+     */
+    public void drawPoints(Batch batch, BitmapFont font, int value, Color color, float alpha, float x, float y) {
+        if (points == null || points.getFont() != font) {
+            points = font.newFontCache();
+            pointsValue = 0;
+        }
+        if (value != pointsValue || !color.equals(pointsColor)) {
+            points.setColor(color);
+            points.setText("+" + value + " points", 0, 0);
+            pointsValue = value;
+            pointsColor.set(color);
+        }
+        points.setPosition(x, y);
+        points.draw(batch, alpha);
+    }
+}
@@ -225,32 +225,38 @@ public enum VesselMovementAnimation {
         return this == MOVE_FORWARD || this == MOVE_BACKWARD || this == MOVE_LEFT || this == MOVE_RIGHT || this.getId() >= 8 && this.getId() <= 11;
     }
 
-    public Vector2 getBumpTargetPosition(int rotationIndex) {
+    /**
+     * Gets the offset a bump moves the vessel by
+     * @param rotationIndex The vessel rotation
+     * @param target        The vector to store the offset in
+     * @return {@code target}, or <code>null</code> if this is not a bump
+     */
+    public Vector2 getBumpTargetPosition(int rotationIndex, Vector2 target) {
         switch (this) {
             case BUMP_NORTH:
-                return new Vector2(0, 0.2f);
+                return target.set(0, 0.2f);
             case BUMP_SOUTH:
-                return new Vector2(0, -0.2f);
+                return target.set(0, -0.2f);
             case BUMP_EAST:
-                return new Vector2(0.2f, 0);
+                return target.set(0.2f, 0);
             case BUMP_WEST:
-                return new Vector2(-0.2f, 0);
+                return target.set(-0.2f, 0);
         }
 
         switch (this) {
             case BUMP_PHASE_1:
                 switch (rotationIndex) {
                     case Face.NORTH:
-                        return new Vector2(0, 0.2f);
+                        return target.set(0, 0.2f);
                     case Face.SOUTH:
-                        return new Vector2(0, -0.2f);
+                        return target.set(0, -0.2f);
                     case Face.EAST:
-                        return new Vector2(0.2f, 0);
+                        return target.set(0.2f, 0);
                     case Face.WEST:
-                        return new Vector2(-0.2f, 0);
+                        return target.set(-0.2f, 0);
                 }
             case BUMP_PHASE_2:
-                return new Vector2(MOVE_FORWARD.getIncrementXForRotation(rotationIndex), MOVE_FORWARD.getIncrementYForRotation(rotationIndex));
+                return target.set(MOVE_FORWARD.getIncrementXForRotation(rotationIndex), MOVE_FORWARD.getIncrementYForRotation(rotationIndex));
         }
 
         return null;
@@ -300,8 +306,14 @@ public enum VesselMovementAnimation {
         return animation == BUMP_PHASE_1 || animation == BUMP_PHASE_2 || animation.getId() >= 12 && animation.getId() <= 15;
     }
 
-    public Vector2 getInbetweenWhirlpool(Vector2 start) {
-        Vector2 inbetween = start.cpy();
+    /**
+     * Gets the inbetween position of a whirlpool move
+     * @param start     The move start
+     * @param inbetween The vector to store the position in
+     * @return {@code inbetween}
+     */
+    public Vector2 getInbetweenWhirlpool(Vector2 start, Vector2 inbetween) {
+        inbetween.set(start);
         switch (this) {
             case WP_SW:
                 return inbetween.add(0, 1);
@@ -0,0 +1,65 @@
+package com.benberi.cadesim.game.entity.vessel;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.benberi.cadesim.GameContext;
+import com.benberi.cadesim.game.cade.Team;
+
+/**
+ * Keeps removed vessels by ship type, so new players reuse their textures instead of creating them again
+ */
+public class VesselPool {
+
+    /**
+     * The game context
+     */
+    private GameContext context;
+
+    /**
+     * Free vessels by ship type
+     */
+    private IntMap<Array<Vessel>> free = new IntMap<Array<Vessel>>();
+
+    public VesselPool(GameContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Gets a vessel of the given ship type, reusing a free one if possible
+     * @param name  The player name
+     * @param x     The spawn x
+     * @param y     The spawn y
+     * @param type  The ship type, see {@link VesselFactory}
+     * @param team  The team of the player
+     * @return The vessel, ready to be rendered
+     */
+    public Vessel obtain(String name, int x, int y, int type, Team team) {
+        Array<Vessel> vessels = free.get(type);
+        if (vessels != null && vessels.size > 0) {
+            Vessel vessel = vessels.pop();
+            vessel.reset(name, x, y);
+            vessel.setTeam(team);
+            vessel.setDefaultTexture();
+            return vessel;
+        }
+
+        Vessel vessel = VesselFactory.create(context, name, x, y, type);
+        vessel.setShipType(type);
+        vessel.setTeam(team);
+        vessel.create();
+        return vessel;
+    }
+
+    /**
+     * Returns a vessel to the pool
+     * @param vessel    The vessel that is no longer in the game
+     */
+    public void free(Vessel vessel) {
+        Array<Vessel> vessels = free.get(vessel.getShipType());
+        if (vessels == null) {
+            vessels = new Array<Vessel>();
+            free.put(vessel.getShipType(), vessels);
+        }
+        vessels.add(vessel);
+    }
+}
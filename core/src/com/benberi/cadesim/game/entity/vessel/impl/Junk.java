@@ -1,16 +1,10 @@
 package com.benberi.cadesim.game.entity.vessel.impl;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
 import com.benberi.cadesim.GameContext;
 import com.benberi.cadesim.game.cade.Team;
-import com.benberi.cadesim.game.entity.projectile.CannonBall;
-import com.benberi.cadesim.game.entity.projectile.impl.LargeCannonball;
-import com.benberi.cadesim.game.entity.projectile.impl.MediumCannonball;
+import com.benberi.cadesim.game.entity.projectile.CannonType;
 import com.benberi.cadesim.game.entity.vessel.Vessel;
 import com.benberi.cadesim.game.entity.vessel.VesselMoveType;
-import com.benberi.cadesim.util.PackedObjectOrientation;
 
 public class Junk extends Vessel {
 
@@ -22,8 +16,6 @@ public class Junk extends Vessel {
     public void create() {
         try {
             setDefaultTexture();
-            this.shootSmoke = new TextureRegion(getContext().getTextures().getMisc("explode_big"));
-            shootSmoke.setRegion(0,0,40, 30);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -39,9 +31,8 @@ public class Junk extends Vessel {
     }
 
     @Override
-    public CannonBall createCannon(GameContext ctx, Vessel source, Vector2 target) {
-        return new LargeCannonball(ctx, source, target, getContext().getTextures().getMisc("large_splash"),
-                getContext().getTextures().getMisc("hit"));
+    public CannonType getCannonType() {
+        return CannonType.LARGE;
     }
 
     @Override
@@ -51,17 +42,11 @@ public class Junk extends Vessel {
 
     @Override
     public void setDefaultTexture() {
-        this.setTexture(getVesselTexture("junk"));
-        this.setOrientationPack(getContext().getTools().getGson().fromJson(
-                Gdx.files.internal("core/assets/vessel/junk/properties.json").readString(),
-                PackedObjectOrientation.class));
+        setVesselTexture("junk", "core/assets/vessel/junk/properties.json");
     }
 
     @Override
     public void setSinkingTexture() {
-        this.setTexture(getVesselTexture("junk_sinking"));
-        this.setOrientationPack(getContext().getTools().getGson().fromJson(
-                Gdx.files.internal("core/assets/vessel/junk/sinking.json").readString(),
-                PackedObjectOrientation.class));
+        setVesselTexture("junk_sinking", "core/assets/vessel/junk/sinking.json");
     }
 }
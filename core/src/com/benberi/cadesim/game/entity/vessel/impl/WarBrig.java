@@ -1,16 +1,10 @@
 package com.benberi.cadesim.game.entity.vessel.impl;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
 import com.benberi.cadesim.GameContext;
 import com.benberi.cadesim.game.cade.Team;
-import com.benberi.cadesim.game.entity.projectile.CannonBall;
-import com.benberi.cadesim.game.entity.projectile.impl.LargeCannonball;
-import com.benberi.cadesim.game.entity.projectile.impl.MediumCannonball;
+import com.benberi.cadesim.game.entity.projectile.CannonType;
 import com.benberi.cadesim.game.entity.vessel.Vessel;
 import com.benberi.cadesim.game.entity.vessel.VesselMoveType;
-import com.benberi.cadesim.util.PackedObjectOrientation;
 
 public class WarBrig extends Vessel {
 
@@ -22,8 +16,6 @@ public class WarBrig extends Vessel {
     public void create() {
         try {
             setDefaultTexture();
-            this.shootSmoke = new TextureRegion(getContext().getTextures().getMisc("explode_medium"));
-            shootSmoke.setRegion(0,0,40, 30);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -39,9 +31,8 @@ public class WarBrig extends Vessel {
     }
 
     @Override
-    public CannonBall createCannon(GameContext ctx, Vessel source, Vector2 target) {
-        return new MediumCannonball(ctx, source, target, getContext().getTextures().getMisc("small_splash"),
-                getContext().getTextures().getMisc("hit"));
+    public CannonType getCannonType() {
+        return CannonType.MEDIUM;
     }
 
     @Override
@@ -51,17 +42,11 @@ public class WarBrig extends Vessel {
 
     @Override
     public void setDefaultTexture() {
-        this.setTexture(getVesselTexture("warbrig"));
-        this.setOrientationPack(getContext().getTools().getGson().fromJson(
-                Gdx.files.internal("core/assets/vessel/wb/properties.json").readString(),
-                PackedObjectOrientation.class));
+        setVesselTexture("warbrig", "core/assets/vessel/wb/properties.json");
     }
 
     @Override
     public void setSinkingTexture() {
-        this.setTexture(getVesselTexture("warbrig_sinking"));
-        this.setOrientationPack(getContext().getTools().getGson().fromJson(
-                Gdx.files.internal("core/assets/vessel/wb/sinking.json").readString(),
-                PackedObjectOrientation.class));
+        setVesselTexture("warbrig_sinking", "core/assets/vessel/wb/sinking.json");
     }
 }
@@ -1,19 +1,14 @@
 package com.benberi.cadesim.game.entity.vessel.impl;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.TextureData;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
 import com.benberi.cadesim.GameContext;
-import com.benberi.cadesim.game.entity.projectile.CannonBall;
-import com.benberi.cadesim.game.entity.projectile.impl.LargeCannonball;
+import com.benberi.cadesim.game.entity.projectile.CannonType;
 import com.benberi.cadesim.game.entity.vessel.Vessel;
 import com.benberi.cadesim.game.entity.vessel.VesselMoveType;
 import com.benberi.cadesim.game.scene.TextureCollection;
-import com.benberi.cadesim.util.PackedObjectOrientation;
 
 public class WarFrigate extends Vessel {
 
@@ -25,8 +20,6 @@ public class WarFrigate extends Vessel {
     public void create() {
         try {
             setDefaultTexture();
-            this.shootSmoke = new TextureRegion(getContext().getTextures().getMisc("explode_big"));
-            shootSmoke.setRegion(0,0,40, 30);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -42,9 +35,8 @@ public class WarFrigate extends Vessel {
     }
 
     @Override
-    public CannonBall createCannon(GameContext ctx, Vessel source, Vector2 target) {
-        return new LargeCannonball(ctx, source, target, getContext().getTextures().getMisc("large_splash"),
-                getContext().getTextures().getMisc("hit"));
+    public CannonType getCannonType() {
+        return CannonType.LARGE;
     }
 
     @Override
@@ -54,17 +46,11 @@ public class WarFrigate extends Vessel {
 
     @Override
     public void setDefaultTexture() {
-        this.setTexture(getVesselTexture("warfrigate"));
-        this.setOrientationPack(getContext().getTools().getGson().fromJson(
-                Gdx.files.internal("core/assets/vessel/wf/properties.json").readString(),
-                PackedObjectOrientation.class));
+        setVesselTexture("warfrigate", "core/assets/vessel/wf/properties.json");
     }
 
     @Override
     public void setSinkingTexture() {
-        this.setTexture(getVesselTexture("warfrigate_sinking"));
-        this.setOrientationPack(getContext().getTools().getGson().fromJson(
-                Gdx.files.internal("core/assets/vessel/wf/sinking.json").readString(),
-                PackedObjectOrientation.class));
+        setVesselTexture("warfrigate_sinking", "core/assets/vessel/wf/sinking.json");
     }
 }
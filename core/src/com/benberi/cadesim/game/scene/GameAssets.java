@@ -0,0 +1,137 @@
+package com.benberi.cadesim.game.scene;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGeneratorLoader;
+import com.badlogic.gdx.graphics.g2d.freetype.FreetypeFontLoader;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Loads the textures and fonts of the game with an asset manager
+ *
+ * Files are read, decoded and fonts rasterized on a background thread, only the uploads to the
+ * GPU happen on the render thread, a few milliseconds per frame in {@link #update()}.
+ */
+public class GameAssets {
+
+    /**
+     * The time spent uploading loaded assets per frame, in milliseconds
+     */
+    private static final int UPDATE_MILLIS = 8;
+
+    /**
+     * The extension of the generated font asset names, which are not files but select the FreeType loader
+     */
+    private static final String FONT_EXTENSION = ".ttf";
+
+    private AssetManager manager;
+
+    /**
+     * The asset names of the queued fonts, their baked file or a generated font name
+     */
+    private Map<GameFont, String> fonts = new EnumMap<GameFont, String>(GameFont.class);
+
+    public GameAssets() {
+        FileHandleResolver resolver = new InternalFileHandleResolver();
+        manager = new AssetManager(resolver);
+        manager.setLoader(FreeTypeFontGenerator.class, new FreeTypeFontGeneratorLoader(resolver));
+        manager.setLoader(BitmapFont.class, FONT_EXTENSION, new FreetypeFontLoader(resolver));
+    }
+
+    /**
+     * Queues a texture
+     * @param path      The texture file
+     * @param mipMapped If the texture is mipmapped, for textures that stay visible when the battle is zoomed out
+     */
+    public void loadTexture(String path, boolean mipMapped) {
+        TextureLoader.TextureParameter parameter = new TextureLoader.TextureParameter();
+        if (mipMapped) {
+            parameter.genMipMaps = true;
+            parameter.minFilter = Texture.TextureFilter.MipMapLinearNearest;
+            parameter.magFilter = Texture.TextureFilter.Nearest;
+        }
+        manager.load(path, Texture.class, parameter);
+    }
+
+    public void loadAtlas(String path) {
+        manager.load(path, TextureAtlas.class);
+    }
+
+    /**
+     * Queues a font, its baked .fnt file when it exists, otherwise it is generated from its font file
+     */
+    public void loadFont(GameFont font) {
+        if (Gdx.files.internal(font.getBakedPath()).exists()) {
+            fonts.put(font, font.getBakedPath());
+            manager.load(font.getBakedPath(), BitmapFont.class);
+            return;
+        }
+
+        System.err.println("No baked " + font.getBakedPath() + ", generating it, run the bakeFonts task to bake it");
+        String name = font.getKey() + FONT_EXTENSION;
+        FreetypeFontLoader.FreeTypeFontLoaderParameter parameter = new FreetypeFontLoader.FreeTypeFontLoaderParameter();
+        parameter.fontFileName = font.getFile();
+        parameter.fontParameters = font.createParameter();
+        fonts.put(font, name);
+        manager.load(name, BitmapFont.class, parameter);
+    }
+
+    public boolean isLoaded(String path) {
+        return manager.isLoaded(path);
+    }
+
+    public Texture getTexture(String path) {
+        return manager.get(path, Texture.class);
+    }
+
+    public TextureAtlas getAtlas(String path) {
+        return manager.get(path, TextureAtlas.class);
+    }
+
+    public BitmapFont getFont(GameFont font) {
+        return manager.get(fonts.get(font), BitmapFont.class);
+    }
+
+    /**
+     * Loads the queued assets for a few milliseconds, on the render thread
+     * @return If all queued assets are loaded
+     */
+    public boolean update() {
+        return manager.update(UPDATE_MILLIS);
+    }
+
+    /**
+     * Blocks until an asset and the assets queued before it are loaded
+     */
+    public void finishLoading(String path) {
+        manager.finishLoadingAsset(path);
+    }
+
+    public void finishLoading(GameFont font) {
+        manager.finishLoadingAsset(fonts.get(font));
+    }
+
+    /**
+     * Blocks until all queued assets are loaded
+     */
+    public void finishLoading() {
+        manager.finishLoading();
+    }
+
+    /**
+     * Gets the loaded part of the queued assets
+     * @return The progress between 0 and 1
+     */
+    public float getProgress() {
+        return manager.getProgress();
+    }
+}
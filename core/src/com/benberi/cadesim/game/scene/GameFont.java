@@ -0,0 +1,155 @@
+package com.benberi.cadesim.game.scene;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+
+import java.util.Locale;
+
+/**
+ * The fonts of the game, each loaded once and shared by all scenes, see {@link GameAssets#getFont(GameFont)}
+ */
+public enum GameFont {
+
+    /**
+     * The connect screen texts
+     */
+    CONNECT("FjallaOne-Regular.ttf", 18) {
+        @Override
+        protected void configure(FreeTypeFontParameter parameter) {
+            parameter.shadowColor = new Color(0, 0, 0, 0.8f);
+            parameter.shadowOffsetY = 1;
+        }
+    },
+
+    /**
+     * The vessel names and points over the battle
+     */
+    VESSEL("Pixel-Miners.otf", 8) {
+        @Override
+        protected void configure(FreeTypeFontParameter parameter) {
+            parameter.spaceX = 0;
+            parameter.shadowColor = new Color(0, 0, 0, 0.5f);
+            parameter.borderColor = Color.BLACK;
+            parameter.borderWidth = 1;
+            parameter.borderStraight = true;
+            parameter.shadowOffsetY = 1;
+            parameter.shadowOffsetX = 1;
+        }
+    },
+
+    /**
+     * The move and cannon counts of the control panel
+     */
+    CONTROL("Roboto-Regular.ttf", 14),
+
+    /**
+     * The team names, points and turn time of the information panel
+     */
+    TEAM_NAMES("FjallaOne-Regular.ttf", 14) {
+        @Override
+        protected void configure(FreeTypeFontParameter parameter) {
+            parameter.shadowColor = new Color(0, 0, 0, 0.8f);
+            parameter.shadowOffsetY = 1;
+        }
+    },
+    POINTS("Roboto-Regular.ttf", 13) {
+        @Override
+        protected void configure(FreeTypeFontParameter parameter) {
+            parameter.shadowColor = new Color(0, 0, 0, 0.6f);
+            parameter.shadowOffsetY = 1;
+        }
+    },
+    TIME("BreeSerif-Regular.ttf", 30) {
+        @Override
+        protected void configure(FreeTypeFontParameter parameter) {
+            parameter.shadowColor = new Color(0, 0, 0, 0.3f);
+            parameter.shadowOffsetY = 2;
+        }
+    };
+
+    public static final String FONT_DIRECTORY = "core/assets/font/";
+
+    /**
+     * The directory of the fonts baked by the bakeFonts task, or by the launcher on first run
+     */
+    public static final String BAKED_DIRECTORY = FONT_DIRECTORY + "baked/";
+
+    /**
+     * Part of the baked font names, bumped when the way fonts are baked changes to bake them all again
+     */
+    private static final int BAKE_VERSION = 1;
+
+    /**
+     * The font file, in the font directory
+     */
+    private String file;
+
+    private int size;
+
+    GameFont(String file, int size) {
+        this.file = file;
+        this.size = size;
+    }
+
+    /**
+     * Sets the font specific parameters, besides the size
+     */
+    protected void configure(FreeTypeFontParameter parameter) {
+    }
+
+    /**
+     * Creates the generation parameters of the font
+     */
+    public FreeTypeFontParameter createParameter() {
+        FreeTypeFontParameter parameter = new FreeTypeFontParameter();
+        parameter.size = size;
+        configure(parameter);
+        return parameter;
+    }
+
+    public String getFile() {
+        return FONT_DIRECTORY + file;
+    }
+
+    /**
+     * Gets the font name used in asset and file names
+     */
+    public String getKey() {
+        return name().toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Gets the .fnt file of the baked font, which is loaded instead of generating the font when it exists
+     *
+     * The name carries a hash of the generation parameters, so a font baked before its parameters
+     * changed is not loaded and gets baked again.
+     */
+    public String getBakedPath() {
+        return BAKED_DIRECTORY + getKey() + "-" + getParameterHash() + ".fnt";
+    }
+
+    /**
+     * Hashes everything the baked font depends on
+     */
+    private String getParameterHash() {
+        FreeTypeFontParameter parameter = createParameter();
+        StringBuilder key = new StringBuilder();
+        key.append(BAKE_VERSION).append(' ').append(file).append(' ').append(parameter.size)
+                .append(' ').append(parameter.mono).append(' ').append(parameter.hinting)
+                .append(' ').append(parameter.color).append(' ').append(parameter.gamma)
+                .append(' ').append(parameter.renderCount)
+                .append(' ').append(parameter.borderWidth).append(' ').append(parameter.borderColor)
+                .append(' ').append(parameter.borderStraight).append(' ').append(parameter.borderGamma)
+                .append(' ').append(parameter.shadowOffsetX).append(' ').append(parameter.shadowOffsetY)
+                .append(' ').append(parameter.shadowColor)
+                .append(' ').append(parameter.spaceX).append(' ').append(parameter.spaceY)
+                .append(' ').append(parameter.kerning).append(' ').append(parameter.flip)
+                .append(' ').append(parameter.genMipMaps).append(' ').append(parameter.minFilter)
+                .append(' ').append(parameter.magFilter).append(' ').append(parameter.characters);
+        return String.format(Locale.ENGLISH, "%08x", key.toString().hashCode());
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
@@ -25,6 +25,13 @@ public interface GameScene {
      */
     void dispose();
 
+    /**
+     * Handles the window being resized
+     * @param width     the new window width
+     * @param height    the new window height
+     */
+    void resize(int width, int height);
+
     /**
      * Handles mouse drag input
      * @param diffX drag-x
@@ -53,4 +60,12 @@ public interface GameScene {
      */
     boolean handleClickRelease(float x, float y, int button);
 
+    /**
+     * Handles mouse wheel scrolling
+     * @param x         mouse-x
+     * @param y         mouse-y
+     * @param amount    the scroll amount, positive when scrolling down
+     */
+    boolean handleScroll(float x, float y, int amount);
+
 }
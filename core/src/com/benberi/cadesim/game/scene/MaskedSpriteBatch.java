@@ -0,0 +1,65 @@
+package com.benberi.cadesim.game.scene;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+/**
+ * A sprite batch that binds the mask of ETC1 compressed vessel spritesheets while the team palette shader is set
+ *
+ * ETC1 has no alpha and is lossy, so compressed spritesheets come with a luminance alpha mask holding
+ * the team color key in luminance and the alpha in alpha, see {@link TextureCollection#getMask(Texture)}.
+ * The mask is bound to texture unit 1 whenever the batch switches texture.
+ */
+public class MaskedSpriteBatch extends SpriteBatch {
+
+    private static final int MASK_UNIT = 1;
+
+    private TextureCollection textures;
+
+    /**
+     * The texture of the sprites being batched
+     */
+    private Texture current;
+
+    public MaskedSpriteBatch(TextureCollection textures) {
+        this.textures = textures;
+    }
+
+    @Override
+    protected void switchTexture(Texture texture) {
+        super.switchTexture(texture);
+        current = texture;
+        applyMask();
+    }
+
+    @Override
+    public void setShader(ShaderProgram shader) {
+        super.setShader(shader);
+        if (isDrawing()) {
+            applyMask();
+        }
+    }
+
+    @Override
+    public void end() {
+        super.end();
+        current = null;
+    }
+
+    private void applyMask() {
+        ShaderProgram palette = textures.getPaletteShader();
+        if (palette == null || getShader() != palette || current == null) {
+            return;
+        }
+        Texture mask = textures.getMask(current);
+        if (mask != null) {
+            mask.bind(MASK_UNIT);
+            Gdx.gl.glActiveTexture(GL20.GL_TEXTURE0);
+        }
+        palette.setUniformi("u_mask", MASK_UNIT);
+        palette.setUniformf("u_masked", mask != null ? 1f : 0f);
+    }
+}
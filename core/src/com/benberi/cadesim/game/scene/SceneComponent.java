@@ -31,6 +31,7 @@ public abstract class SceneComponent<T extends GameScene> {
     public abstract void update();
     public abstract void render();
     public abstract void dispose();
+    public abstract void resize(int width, int height);
 
     public abstract boolean handleClick(float x, float y, int button);
     public abstract boolean handleDrag(float screenX, float screenY, float x, float y);
@@ -1,11 +1,19 @@
 package com.benberi.cadesim.game.scene;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.NinePatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.benberi.cadesim.GameContext;
 import com.benberi.cadesim.game.cade.Team;
+import com.benberi.cadesim.game.entity.vessel.FlagSymbol;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -13,16 +21,122 @@ import java.util.Map;
 public class TextureCollection {
 
     /**
-     * Sea tile textures
+     * The team color key of the vessel spritesheets, rgb(90, 172, 222) as RGBA8888
      */
-    private Map<String, Texture> seaTiles = new HashMap<String, Texture>();
+    public static final int TEAM_KEY_COLOR = 0x5aacdeff;
+
+    /**
+     * The assets directory, and the directory the compressTextures task writes the compressed groups to
+     */
+    public static final String ASSETS_DIRECTORY = "core/assets/";
+    public static final String COMPRESSED_DIRECTORY = ASSETS_DIRECTORY + "compressed/";
+
+    /**
+     * The directory and names of the texture atlases written by the packTextures task
+     */
+    public static final String ATLAS_DIRECTORY = ASSETS_DIRECTORY + "atlas/";
+    public static final String BATTLE_ATLAS = "battle";
+    public static final String UI_ATLAS = "ui";
+
+    /**
+     * The white shapes drawn into the atlases by the packTextures task, tinted by the batch color
+     */
+    public static final String PIXEL_REGION = "shapes/pixel";
+    public static final String OUTLINE_REGION = "shapes/outline";
+
+    /**
+     * The influence radii of the vessel types, in tiles, a ring is packed for each
+     */
+    public static final float[] INFLUENCE_RADII = { 3f, 4f, 5.5f };
+
+    private static final String ETC1_EXTENSION = "GL_OES_compressed_ETC1_RGB8_texture";
+
+    /**
+     * The repeating open sea texture
+     */
+    private static final String SEA_TEXTURE = ASSETS_DIRECTORY + "sea/sea1.png";
+
+    /**
+     * The vessel spritesheets by name
+     */
+    private static final String[][] VESSEL_SHEETS = {
+            { "warfrigate", "core/assets/vessel/wf/spritesheet.png" },
+            { "xebec", "core/assets/vessel/xebec/spritesheet.png" },
+            { "warbrig", "core/assets/vessel/wb/spritesheet.png" },
+            { "junk", "core/assets/vessel/junk/spritesheet.png" },
+            { "warfrigate_sinking", "core/assets/vessel/wf/sinking2.png" },
+            { "xebec_sinking", "core/assets/vessel/xebec/sinking.png" },
+            { "warbrig_sinking", "core/assets/vessel/wb/sinking.png" },
+            { "junk_sinking", "core/assets/vessel/junk/sinking.png" }
+    };
+
+    /**
+     * The effects, projectiles, flags and sea tiles, and the interface sprites
+     */
+    private TextureAtlas battleAtlas;
+    private TextureAtlas uiAtlas;
+
+    private Texture sea;
+
+    /**
+     * Sea tile regions
+     */
+    private Map<String, TextureRegion> seaTiles = new HashMap<String, TextureRegion>();
 
     /**
      * Vessel spritesheet textures
      */
     private Map<String, Texture> vessels = new HashMap<String, Texture>();
 
-    private Map<String, Texture> misc = new HashMap<String, Texture>();
+    private Map<String, TextureRegion> misc = new HashMap<String, TextureRegion>();
+
+    /**
+     * Recolored vessel spritesheets by name and team, used when the palette shader is not available
+     */
+    private Map<String, Texture> teamVessels = new HashMap<String, Texture>();
+
+    /**
+     * The alpha and team key masks of ETC1 compressed spritesheets, by spritesheet
+     */
+    private Map<Texture, Texture> masks = new HashMap<Texture, Texture>();
+
+    /**
+     * The estimated video memory used by each texture group, in bytes
+     */
+    private long[] videoMemory = new long[TextureGroup.values().length];
+
+    /**
+     * If the vessel spritesheets were loaded ETC1 compressed
+     */
+    private boolean compressedVessels;
+
+    /**
+     * Swaps the team color key of vessel spritesheets for the batch color, <code>null</code> if it did not compile
+     */
+    private ShaderProgram paletteShader;
+
+    /**
+     * A single white pixel, drawn stretched and tinted by the batch color for filled rectangles,
+     * from the interface atlas until the battle atlas is loaded
+     */
+    private TextureRegion whitePixel;
+
+    /**
+     * A white one pixel outline, drawn tinted by the batch color for rectangle outlines
+     */
+    private NinePatch outline;
+
+    /**
+     * White influence rings, by influence radius
+     */
+    private Map<Float, TextureRegion> influenceRings = new HashMap<Float, TextureRegion>();
+
+    /**
+     * Shared flag symbols by size, for local, war and each team controlled flags
+     */
+    private FlagSymbol[] localFlagSymbols = new FlagSymbol[FlagSymbol.MAX_SIZE];
+    private FlagSymbol[] warFlagSymbols = new FlagSymbol[FlagSymbol.MAX_SIZE];
+    private FlagSymbol[][] teamFlagSymbols = new FlagSymbol[Team.values().length][FlagSymbol.MAX_SIZE];
 
     private GameContext context;
 
@@ -31,20 +145,67 @@ public class TextureCollection {
     }
 
     /**
-     * Creates all textures
+     * Queues the interface atlas, needed by the connect screen
+     */
+    public void queueInterface() {
+        context.getAssets().loadAtlas(getAtlasPath(UI_ATLAS));
+    }
+
+    /**
+     * Creates the interface textures, once the interface atlas is loaded
+     */
+    public void createInterface() {
+        uiAtlas = context.getAssets().getAtlas(getAtlasPath(UI_ATLAS));
+        for (Texture texture : uiAtlas.getTextures()) {
+            account(TextureGroup.UI, texture, 4);
+        }
+        whitePixel = findRegion(uiAtlas, PIXEL_REGION);
+    }
+
+    /**
+     * Queues the battle textures
+     */
+    public void queue() {
+        // the compressed vessels can only be drawn by the palette shader, so it is created first
+        createPaletteShader();
+        context.getAssets().loadAtlas(getAtlasPath(BATTLE_ATLAS));
+        context.getAssets().loadTexture(SEA_TEXTURE, true);
+        queueVessels();
+    }
+
+    /**
+     * Creates the battle textures, once the queued textures are loaded
      */
     public void create() {
+        battleAtlas = context.getAssets().getAtlas(getAtlasPath(BATTLE_ATLAS));
+        for (Texture texture : battleAtlas.getTextures()) {
+            account(TextureGroup.BATTLE, texture, 4);
+        }
+        sea = context.getAssets().getTexture(SEA_TEXTURE);
+        sea.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
+        account(TextureGroup.BATTLE, sea, 4);
+
         createSeaTiles();
         createVessels();
         createMisc();
+        createShapes();
+        createFlagSymbols();
+        reportVideoMemory();
+    }
+
+    /**
+     * Gets the repeating open sea texture
+     */
+    public Texture getSea() {
+        return sea;
     }
 
     /**
      * Gets a sea tile
      * @param index The index
-     * @return  A texture of the tile
+     * @return  A region of the tile
      */
-    public Texture getSeaTile(String index) {
+    public TextureRegion getSeaTile(String index) {
         return seaTiles.get(index);
     }
 
@@ -58,44 +219,287 @@ public class TextureCollection {
     }
 
     /**
-     * Gets misc spritesheet texture
+     * Gets a vessel spritesheet recolored for a team, recolored only once per team
      * @param index The index
-     * @return A misc texture
+     * @param team  The team
+     * @return A texture of the recolored vessel spritesheet
+     */
+    public Texture getVesselForTeam(String index, Team team) {
+        String key = index + "#" + team.getID();
+        Texture texture = teamVessels.get(key);
+        if (texture == null) {
+            texture = prepareTextureForTeam(vessels.get(index), team);
+            teamVessels.put(key, texture);
+            account(TextureGroup.VESSELS, texture, 4);
+        }
+        return texture;
+    }
+
+    /**
+     * Gets the team palette shader, for batches drawing vessels with the team color as batch color
+     * @return The shader, or <code>null</code> if it is not supported, then {@link #getVesselForTeam} is used
+     */
+    public ShaderProgram getPaletteShader() {
+        return paletteShader;
+    }
+
+    /**
+     * Gets the alpha and team key mask of a compressed spritesheet
+     * @param texture   The spritesheet
+     * @return The mask, or <code>null</code> if the spritesheet is not compressed
+     */
+    public Texture getMask(Texture texture) {
+        return masks.get(texture);
+    }
+
+    /**
+     * Gets the estimated video memory used by the textures of a group
+     * @param group The group
+     * @return The memory in bytes
      */
-    public Texture getMisc(String index) {
+    public long getVideoMemory(TextureGroup group) {
+        return videoMemory[group.ordinal()];
+    }
+
+    /**
+     * Gets misc spritesheet region
+     * @param index The index
+     * @return A misc region
+     */
+    public TextureRegion getMisc(String index) {
         return misc.get(index);
     }
 
+    /**
+     * Gets an interface sprite
+     * @param name  The sprite path in the assets directory, without extension, e.g. "ui/title"
+     * @return The region of the sprite in the interface atlas
+     */
+    public TextureRegion getUi(String name) {
+        return findRegion(uiAtlas, name);
+    }
+
+    /**
+     * Gets a white pixel region, to draw filled rectangles in a sprite batch
+     */
+    public TextureRegion getWhitePixel() {
+        return whitePixel;
+    }
+
+    /**
+     * Gets a white outline nine-patch, to draw rectangle outlines in a sprite batch
+     */
+    public NinePatch getOutline() {
+        return outline;
+    }
+
+    /**
+     * Gets the white ring around a vessel of the given influence radius
+     * @param radius    The influence radius in tiles, one of {@link #INFLUENCE_RADII}
+     * @return A region of the ring, centered on the vessel
+     */
+    public TextureRegion getInfluenceRing(float radius) {
+        return influenceRings.get(radius);
+    }
+
+    /**
+     * Gets the shared symbol of a flag
+     * @param size              The flag size
+     * @param atWar             If the flag is at war
+     * @param controllerTeam    The team controlling the flag
+     * @param local             If the flag is controlled by the local player or team
+     * @return The symbol
+     */
+    public FlagSymbol getFlagSymbol(int size, boolean atWar, Team controllerTeam, boolean local) {
+        if (local) {
+            return localFlagSymbols[size - 1];
+        }
+        else if (atWar) {
+            return warFlagSymbols[size - 1];
+        }
+        return teamFlagSymbols[controllerTeam.ordinal()][size - 1];
+    }
+
+    /**
+     * Queues the vessel spritesheets, ETC1 compressed with their masks when available, otherwise the PNGs
+     */
+    private void queueVessels() {
+        // the compressed sheets have no alpha and no exact team key, those come from the mask drawn by the palette shader
+        compressedVessels = paletteShader != null && Gdx.graphics.supportsExtension(ETC1_EXTENSION);
+        if (!compressedVessels) {
+            System.out.println("ETC1 textures not supported, loading the vessel spritesheets uncompressed");
+        }
+
+        GameAssets assets = context.getAssets();
+        for (String[] sheet : VESSEL_SHEETS) {
+            String path = sheet[1];
+            if (compressedVessels) {
+                FileHandle compressed = Gdx.files.internal(getCompressedPath(path));
+                FileHandle mask = Gdx.files.internal(getMaskPath(path));
+                if (compressed.exists() && mask.exists()) {
+                    assets.loadTexture(compressed.path(), true);
+                    assets.loadTexture(mask.path(), true);
+                    continue;
+                }
+                System.err.println("No compressed " + path + ", run the compressTextures task to create it");
+            }
+            // the palette shader finds the team key by its exact color, which filtering and mipmaps would blend away
+            assets.loadTexture(path, false);
+        }
+    }
+
     /**
      * Creates vessel textures
      */
     private void createVessels() {
-        vessels.put("warfrigate", new Texture("core/assets/vessel/wf/spritesheet.png"));
-        vessels.put("xebec", new Texture("core/assets/vessel/xebec/spritesheet.png"));
-        vessels.put("warbrig", new Texture("core/assets/vessel/wb/spritesheet.png"));
-        vessels.put("junk", new Texture("core/assets/vessel/junk/spritesheet.png"));
-        vessels.put("warfrigate_sinking", new Texture("core/assets/vessel/wf/sinking2.png"));
-        vessels.put("xebec_sinking", new Texture("core/assets/vessel/xebec/sinking.png"));
-        vessels.put("warbrig_sinking", new Texture("core/assets/vessel/wb/sinking.png"));
-        vessels.put("junk_sinking", new Texture("core/assets/vessel/junk/sinking.png"));
+        GameAssets assets = context.getAssets();
+        for (String[] sheet : VESSEL_SHEETS) {
+            String path = sheet[1];
+            String compressed = getCompressedPath(path);
+            if (assets.isLoaded(compressed)) {
+                Texture texture = assets.getTexture(compressed);
+                Texture mask = assets.getTexture(getMaskPath(path));
+                masks.put(texture, mask);
+
+                // half a byte per pixel for ETC1, two for the luminance alpha mask
+                account(TextureGroup.VESSELS, texture, 0.5f);
+                account(TextureGroup.VESSELS, mask, 2);
+                vessels.put(sheet[0], texture);
+            }
+            else {
+                Texture texture = assets.getTexture(path);
+                account(TextureGroup.VESSELS, texture, 4);
+                vessels.put(sheet[0], texture);
+            }
+        }
+    }
+
+    /**
+     * Gets the file of a texture atlas
+     * @param name  The atlas name
+     */
+    public static String getAtlasPath(String name) {
+        return ATLAS_DIRECTORY + name + ".atlas";
     }
 
     /**
-     * Creates sea tiles textures
+     * Gets the name of the influence ring region of a radius in the battle atlas
+     * @param radius    The influence radius in tiles
+     */
+    public static String getInfluenceRingRegion(float radius) {
+        return "shapes/influence_" + radius;
+    }
+
+    private static TextureRegion findRegion(TextureAtlas atlas, String name) {
+        TextureRegion region = atlas.findRegion(name);
+        if (region == null) {
+            throw new GdxRuntimeException("No region " + name + " in the texture atlases, run the packTextures task");
+        }
+        return region;
+    }
+
+    /**
+     * Creates sea tiles regions
      */
     private void createSeaTiles() {
-        seaTiles.put("cell", new Texture("core/assets/sea/cell.png"));
-        seaTiles.put("safe", new Texture("core/assets/sea/safezone.png"));
+        seaTiles.put("cell", findRegion(battleAtlas, "sea/cell"));
+        seaTiles.put("safe", findRegion(battleAtlas, "sea/safezone"));
+        seaTiles.put("wind", findRegion(battleAtlas, "sea/wind"));
+        seaTiles.put("whirl", findRegion(battleAtlas, "sea/whirl"));
+        seaTiles.put("big_rock", findRegion(battleAtlas, "sea/rocks_big"));
+        seaTiles.put("small_rock", findRegion(battleAtlas, "sea/rocks_small"));
     }
 
     private void createMisc() {
-        misc.put("large_ball", new Texture("core/assets/projectile/cannonball_large.png"));
-        misc.put("medium_ball", new Texture("core/assets/projectile/cannonball.png"));
-        misc.put("large_splash", new Texture("core/assets/effects/splash_big.png"));
-        misc.put("small_splash", new Texture("core/assets/effects/splash_sm.png"));
-        misc.put("explode_big", new Texture("core/assets/effects/explode_big.png"));
-        misc.put("explode_medium", new Texture("core/assets/effects/explode_med.png"));
-        misc.put("hit", new Texture("core/assets/effects/hit.png"));
+        misc.put("large_ball", findRegion(battleAtlas, "projectile/cannonball_large"));
+        misc.put("medium_ball", findRegion(battleAtlas, "projectile/cannonball"));
+        misc.put("large_splash", findRegion(battleAtlas, "effects/splash_big"));
+        misc.put("small_splash", findRegion(battleAtlas, "effects/splash_sm"));
+        misc.put("explode_big", findRegion(battleAtlas, "effects/explode_big"));
+        misc.put("explode_medium", findRegion(battleAtlas, "effects/explode_med"));
+        misc.put("hit", findRegion(battleAtlas, "effects/hit"));
+        misc.put("buoy", findRegion(battleAtlas, "cade/buoy"));
+        misc.put("buoy_symbols", findRegion(battleAtlas, "cade/buoy_symbols"));
+    }
+
+    /**
+     * Takes the shapes from the battle atlas, so overlays drawn between sprites do not switch textures
+     */
+    private void createShapes() {
+        whitePixel = findRegion(battleAtlas, PIXEL_REGION);
+        outline = new NinePatch(findRegion(battleAtlas, OUTLINE_REGION), 1, 1, 1, 1);
+        for (float radius : INFLUENCE_RADII) {
+            influenceRings.put(radius, findRegion(battleAtlas, getInfluenceRingRegion(radius)));
+        }
+    }
+
+    /**
+     * Adds a texture to the video memory estimate of a group
+     * @param group         The group
+     * @param texture       The texture
+     * @param bytesPerPixel The size of a pixel in video memory
+     */
+    private void account(TextureGroup group, Texture texture, float bytesPerPixel) {
+        long bytes = (long) (texture.getWidth() * texture.getHeight() * bytesPerPixel);
+        if (texture.getMinFilter().isMipMap()) {
+            // the mipmap chain adds a third
+            bytes = bytes * 4 / 3;
+        }
+        videoMemory[group.ordinal()] += bytes;
+    }
+
+    private void reportVideoMemory() {
+        long total = 0;
+        for (TextureGroup group : TextureGroup.values()) {
+            long bytes = getVideoMemory(group);
+            System.out.println("Textures " + group.getName() + ": " + (bytes / 1024) + " kb"
+                    + (group == TextureGroup.VESSELS && compressedVessels ? " (etc1)" : ""));
+            total += bytes;
+        }
+        System.out.println("Textures total: " + (total / 1024) + " kb");
+    }
+
+    private void createPaletteShader() {
+        ShaderProgram shader = new ShaderProgram(Gdx.files.internal("core/assets/shader/palette.vert"),
+                Gdx.files.internal("core/assets/shader/palette.frag"));
+        if (!shader.isCompiled()) {
+            System.err.println("Team palette shader not available, recoloring vessels on the CPU: " + shader.getLog());
+            shader.dispose();
+            return;
+        }
+        paletteShader = shader;
+    }
+
+    private void createFlagSymbols() {
+        TextureRegion symbols = misc.get("buoy_symbols");
+        for (int size = 1; size <= FlagSymbol.MAX_SIZE; size++) {
+            localFlagSymbols[size - 1] = new FlagSymbol(symbols, FlagSymbol.LOCAL_COLUMN, size, false);
+            warFlagSymbols[size - 1] = new FlagSymbol(symbols, FlagSymbol.WAR_COLUMN, size, true);
+            for (Team team : Team.values()) {
+                teamFlagSymbols[team.ordinal()][size - 1] = new FlagSymbol(symbols, FlagSymbol.getTeamColumn(team), size, false);
+            }
+        }
+    }
+
+    /**
+     * Gets the ETC1 compressed file of an asset, written by the compressTextures task
+     * @param path  The asset path, in the assets directory
+     */
+    public static String getCompressedPath(String path) {
+        return COMPRESSED_DIRECTORY + stripExtension(path.substring(ASSETS_DIRECTORY.length())) + ".ktx";
+    }
+
+    /**
+     * Gets the mask file of a compressed asset, the alpha in alpha and the team color key in luminance
+     * @param path  The asset path, in the assets directory
+     */
+    public static String getMaskPath(String path) {
+        return COMPRESSED_DIRECTORY + stripExtension(path.substring(ASSETS_DIRECTORY.length())) + "_mask.cim";
+    }
+
+    private static String stripExtension(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot == -1 ? path : path.substring(0, dot);
     }
 
     public static Texture prepareTextureForTeam(Texture texture, Team team) {
@@ -117,20 +521,21 @@ public class TextureCollection {
                 // The current color in the given position
                 int color = pixmap.getPixel(x, y);
 
-                // RGBA conversion from int
-                int R = ((color & 0xff000000) >>> 24);
-                int G = ((color & 0x00ff0000) >>> 16);
-                int B = ((color & 0x0000ff00) >>> 8);
-                int A = ((color & 0x000000ff));
-
-                // Chec
-                if (R == 90 && G == 172 && B == 222 && A == 255) {
+                // Check for the opaque team color key
+                if (color == TEAM_KEY_COLOR) {
                     pixmap.drawPixel(x, y, Color.rgba8888(team.getColor()));
                 }
 
             }
         }
 
-        return new Texture(pixmap);
+        Texture recolored = new Texture(pixmap, texture.getMinFilter().isMipMap());
+        recolored.setFilter(texture.getMinFilter(), texture.getMagFilter());
+
+        // The consumed copy is ours once uploaded
+        if (data.disposePixmap()) {
+            pixmap.dispose();
+        }
+        return recolored;
     }
 }
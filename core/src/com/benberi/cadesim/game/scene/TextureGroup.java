@@ -0,0 +1,40 @@
+package com.benberi.cadesim.game.scene;
+
+/**
+ * The groups textures are loaded and accounted in, see {@link TextureCollection#getVideoMemory(TextureGroup)}
+ */
+public enum TextureGroup {
+    VESSELS("vessels", "core/assets/vessel/", true),
+    BATTLE("battle", null, false),
+    UI("interface", null, false);
+
+    private String name;
+
+    /**
+     * The asset directory of the group, <code>null</code> if its textures are spread or generated
+     */
+    private String directory;
+
+    /**
+     * If the group is converted to ETC1 at build time, by the desktop compressTextures task
+     */
+    private boolean compressed;
+
+    TextureGroup(String name, String directory, boolean compressed) {
+        this.name = name;
+        this.directory = directory;
+        this.compressed = compressed;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public boolean isCompressed() {
+        return compressed;
+    }
+}
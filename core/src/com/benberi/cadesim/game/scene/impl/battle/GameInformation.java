@@ -1,23 +1,35 @@
 package com.benberi.cadesim.game.scene.impl.battle;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.benberi.cadesim.Constants;
 import com.benberi.cadesim.GameContext;
+import com.benberi.cadesim.game.scene.GameAssets;
+import com.benberi.cadesim.game.scene.GameFont;
 import com.benberi.cadesim.game.scene.GameScene;
 import com.benberi.cadesim.game.scene.SceneComponent;
 
 public class GameInformation extends SceneComponent {
 
+    private static final Color DEFENDER_COLOR = new Color(146 / 255f, 236 / 255f, 30 / 255f, 1);
+    private static final Color ATTACKER_COLOR = new Color(162 / 255f, 7 / 255f, 7 / 255f, 1);
+    private static final Color TIME_COLOR = new Color(1, 230 / 255f, 59 / 255f, 1);
+
     /**
      * The sprite batch
      */
     private SpriteBatch batch;
 
-    private Texture panel;
+    /**
+     * The battle area above the control area, the panel is drawn at its bottom left corner
+     */
+    private ScreenViewport viewport = new ScreenViewport();
+
+    private TextureRegion panel;
 
     /**
      * Font for texts
@@ -26,6 +38,22 @@ public class GameInformation extends SceneComponent {
     private BitmapFont fontPoints;
     private BitmapFont timeFont;
 
+    /**
+     * The laid out texts, only laid out again when the team names, scores or time change
+     */
+    private BitmapFontCache teamNames;
+    private BitmapFontCache scores;
+    private BitmapFontCache clock;
+
+    private boolean teamNamesChanged = true;
+    private boolean scoresChanged = true;
+
+    /**
+     * The time the clock was laid out for
+     */
+    private int clockTime = -1;
+    private StringBuilder clockText = new StringBuilder(5);
+
     private int teamOneScore;
     private int teamTwoScore;
 
@@ -42,30 +70,16 @@ public class GameInformation extends SceneComponent {
     @Override
     public void create() {
         this.batch = new SpriteBatch();
-        this.panel = new Texture("core/assets/ui/info.png");
-
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("core/assets/font/FjallaOne-Regular.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 14;
-        parameter.shadowColor = new Color(0, 0, 0, 0.8f);
-        parameter.shadowOffsetY = 1;
-        fontTeam = generator.generateFont(parameter);
-
-        generator = new FreeTypeFontGenerator(Gdx.files.internal("core/assets/font/Roboto-Regular.ttf"));
-        parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 13;
-        parameter.shadowColor = new Color(0, 0, 0, 0.6f);
-        parameter.shadowOffsetY = 1;
-        fontPoints = generator.generateFont(parameter);
-
-        generator = new FreeTypeFontGenerator(Gdx.files.internal("core/assets/font/BreeSerif-Regular.ttf"));
-        parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 30;
-
-        parameter.shadowColor = new Color(0, 0, 0, 0.3f);
-        parameter.shadowOffsetY = 2;
-
-        timeFont = generator.generateFont(parameter);
+        this.panel = getContext().getTextures().getUi("ui/info");
+
+        GameAssets assets = getContext().getAssets();
+        fontTeam = assets.getFont(GameFont.TEAM_NAMES);
+        fontPoints = assets.getFont(GameFont.POINTS);
+        timeFont = assets.getFont(GameFont.TIME);
+
+        teamNames = fontTeam.newFontCache();
+        scores = fontPoints.newFontCache();
+        clock = timeFont.newFontCache();
     }
 
     public void setTime(int time) {
@@ -79,26 +93,72 @@ public class GameInformation extends SceneComponent {
 
     @Override
     public void render() {
-    	int xPlacement = 40 + (longestTeam.length() * 6);
-        Gdx.gl.glViewport(0,200, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        if (teamNamesChanged) {
+            updateTeamNames();
+        }
+        if (scoresChanged) {
+            updateScores();
+        }
+        if (time != clockTime) {
+            updateClock();
+        }
+
+        viewport.apply();
+        batch.setProjectionMatrix(viewport.getCamera().combined);
         batch.begin();
         batch.draw(panel, 5, 5);
-        fontTeam.setColor(new Color(146 / 255f, 236 / 255f, 30 / 255f, 1));
-        fontTeam.draw(batch, this.defender + ":", 18,120 );
-        fontPoints.draw(batch, Integer.toString(teamOneScore), xPlacement,118 );
+        teamNames.draw(batch);
+        scores.draw(batch);
+        clock.draw(batch);
+        batch.end();
+    }
 
-        fontTeam.setColor(new Color(162 / 255f, 7 / 255f, 7 / 255f, 1));
-        fontTeam.draw(batch, this.attacker + ":", 18,97 );
-        fontPoints.draw(batch, Integer.toString(teamTwoScore), xPlacement,95 );
+    @Override
+    public void resize(int width, int height) {
+        viewport.update(width, Math.max(1, height - Constants.CONTROL_AREA_HEIGHT), true);
+        viewport.setScreenY(Constants.CONTROL_AREA_HEIGHT);
+    }
 
-        int minutes = time / 60;
-        int seconds = time % 60;
+    private void updateTeamNames() {
+        teamNames.clear();
+        teamNames.setColor(DEFENDER_COLOR);
+        teamNames.addText(this.defender + ":", 18, 120);
+        teamNames.setColor(ATTACKER_COLOR);
+        teamNames.addText(this.attacker + ":", 18, 97);
+        teamNamesChanged = false;
 
-        timeFont.setColor(new Color(1, 230 / 255f, 59 / 255f, 1));
+        // the scores are placed after the longest team name
+        scoresChanged = true;
+    }
 
-        timeFont.draw(batch, (minutes < 10 ? "0" + minutes : minutes) + ":" + (seconds < 10 ? "0" + seconds : seconds), 62,50 );
+    private void updateScores() {
+        int xPlacement = 40 + (longestTeam.length() * 6);
+        scores.clear();
+        scores.addText(Integer.toString(teamOneScore), xPlacement, 118);
+        scores.addText(Integer.toString(teamTwoScore), xPlacement, 95);
+        scoresChanged = false;
+    }
 
-        batch.end();
+    /**
+     * Lays out the time as mm:ss, without building intermediate strings
+     */
+    private void updateClock() {
+        int minutes = time / 60;
+        int seconds = time % 60;
+
+        clockText.setLength(0);
+        if (minutes < 10) {
+            clockText.append('0');
+        }
+        clockText.append(minutes).append(':');
+        if (seconds < 10) {
+            clockText.append('0');
+        }
+        clockText.append(seconds);
+
+        clock.setColor(TIME_COLOR);
+        clock.setText(clockText, 62, 50);
+        clockTime = time;
     }
 
     @Override
@@ -106,6 +166,7 @@ public class GameInformation extends SceneComponent {
         teamOneScore = 0;
         teamTwoScore = 0;
         time = 0;
+        scoresChanged = true;
     }
 
     @Override
@@ -126,6 +187,7 @@ public class GameInformation extends SceneComponent {
     public void setPoints(int greenPoints, int redPoints) {
         this.teamOneScore = greenPoints;
         this.teamTwoScore = redPoints;
+        this.scoresChanged = true;
     }
 
 	public int getTime() {
@@ -141,5 +203,6 @@ public class GameInformation extends SceneComponent {
 		else {
 			this.longestTeam = attacker;
 		}
+		this.teamNamesChanged = true;
 	}
 }
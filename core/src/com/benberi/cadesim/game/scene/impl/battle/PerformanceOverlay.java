@@ -0,0 +1,248 @@
+package com.benberi.cadesim.game.scene.impl.battle;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.Matrix4;
+import com.benberi.cadesim.GameContext;
+import com.benberi.cadesim.client.packet.ClientPacketHandler;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Frame timings and rendering, network and memory counters drawn over the battle, toggled with F3
+ *
+ * Everything shown is read from counters and kept in preallocated buffers, so the overlay does not
+ * allocate while it is shown. The texts are laid out again a few times per second only.
+ */
+public class PerformanceOverlay {
+
+    /**
+     * The number of frames in the frame time histogram
+     */
+    private static final int HISTORY = 120;
+
+    /**
+     * The frame time at the top of the histogram, and the frame time of 60 frames per second
+     */
+    private static final float MAX_FRAME_MS = 50f;
+    private static final float BUDGET_MS = 1000f / 60;
+
+    private static final int BAR_WIDTH = 2;
+    private static final int HISTOGRAM_HEIGHT = 60;
+    private static final int MARGIN = 5;
+    private static final int PADDING = 4;
+
+    /**
+     * The number of text lines, see {@link #updateText()}
+     */
+    private static final int LINES = 6;
+
+    /**
+     * The time between two updates of the texts, in seconds
+     */
+    private static final float TEXT_INTERVAL = 0.25f;
+
+    private static final Color BACKGROUND_COLOR = new Color(0, 0, 0, 0.6f);
+    private static final Color BAR_COLOR = new Color(0.3f, 0.85f, 0.3f, 1);
+    private static final Color SLOW_BAR_COLOR = new Color(0.9f, 0.3f, 0.25f, 1);
+    private static final Color BUDGET_COLOR = new Color(1, 1, 0.4f, 0.8f);
+
+    private GameContext context;
+
+    private boolean visible;
+
+    /**
+     * The last frame times in milliseconds, {@link #frameIndex} is the oldest
+     */
+    private float[] frameTimes = new float[HISTORY];
+    private int frameIndex;
+
+    /**
+     * The battle batch counters of the last frame
+     */
+    private int renderCalls;
+    private int maxSpritesInBatch;
+
+    /**
+     * The GL counters of the last frame, the whole window
+     */
+    private int textureBindings;
+    private int drawCalls;
+
+    /**
+     * The garbage collectors, looked up once
+     */
+    private List<GarbageCollectorMXBean> collectors;
+
+    /**
+     * The collection count and time at the last text update
+     */
+    private long lastCollections;
+    private long lastCollectionTime;
+
+    private float textTimer = TEXT_INTERVAL;
+
+    private StringBuilder text = new StringBuilder(256);
+    private BitmapFontCache cache;
+
+    /**
+     * The battle area in window pixels
+     */
+    private Matrix4 projection = new Matrix4();
+    private float height;
+
+    public PerformanceOverlay(GameContext context) {
+        this.context = context;
+        this.collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    }
+
+    /**
+     * Shows or hides the overlay, the GL counters are only collected while it is shown
+     */
+    public void toggle() {
+        visible = !visible;
+        if (visible) {
+            GLProfiler.reset();
+            GLProfiler.enable();
+            textTimer = TEXT_INTERVAL;
+        }
+        else {
+            GLProfiler.disable();
+        }
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Places the overlay in the battle area
+     * @param width     The battle area width
+     * @param height    The battle area height
+     */
+    public void resize(float width, float height) {
+        projection.setToOrtho2D(0, 0, width, height);
+        this.height = height;
+    }
+
+    /**
+     * Records the counters of the battle batch, after it finished drawing the battle
+     */
+    public void recordBatch(SpriteBatch batch) {
+        renderCalls = batch.renderCalls;
+        maxSpritesInBatch = batch.maxSpritesInBatch;
+        batch.maxSpritesInBatch = 0;
+    }
+
+    /**
+     * Records the frame and draws the overlay, last thing in the frame
+     * @param batch The batch, which must not be drawing
+     * @param font  The font of the texts
+     */
+    public void render(SpriteBatch batch, BitmapFont font) {
+        if (!visible) {
+            return;
+        }
+
+        frameTimes[frameIndex] = Gdx.graphics.getDeltaTime() * 1000;
+        frameIndex = (frameIndex + 1) % HISTORY;
+        textureBindings = GLProfiler.textureBindings;
+        drawCalls = GLProfiler.drawCalls;
+        GLProfiler.reset();
+
+        if (cache == null || cache.getFont() != font) {
+            cache = font.newFontCache();
+            textTimer = TEXT_INTERVAL;
+        }
+        textTimer += Gdx.graphics.getDeltaTime();
+        if (textTimer >= TEXT_INTERVAL) {
+            updateText();
+            textTimer = 0;
+        }
+
+        float width = HISTORY * BAR_WIDTH + PADDING * 2;
+        float panelHeight = HISTOGRAM_HEIGHT + LINES * font.getLineHeight() + PADDING * 3;
+        float x = MARGIN;
+        float y = height - MARGIN - panelHeight;
+
+        TextureRegion pixel = context.getTextures().getWhitePixel();
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        batch.setColor(BACKGROUND_COLOR);
+        batch.draw(pixel, x, y, width, panelHeight);
+
+        float barsY = y + panelHeight - PADDING - HISTOGRAM_HEIGHT;
+        for (int i = 0; i < HISTORY; i++) {
+            float ms = frameTimes[(frameIndex + i) % HISTORY];
+            batch.setColor(ms > BUDGET_MS ? SLOW_BAR_COLOR : BAR_COLOR);
+            batch.draw(pixel, x + PADDING + i * BAR_WIDTH, barsY, BAR_WIDTH, Math.min(ms, MAX_FRAME_MS) / MAX_FRAME_MS * HISTOGRAM_HEIGHT);
+        }
+        batch.setColor(BUDGET_COLOR);
+        batch.draw(pixel, x + PADDING, barsY + BUDGET_MS / MAX_FRAME_MS * HISTOGRAM_HEIGHT, HISTORY * BAR_WIDTH, 1);
+        batch.setColor(Color.WHITE);
+
+        cache.setPosition(x + PADDING, barsY - PADDING);
+        cache.draw(batch);
+        batch.end();
+    }
+
+    /**
+     * Writes the counters into the texts, without creating strings
+     */
+    private void updateText() {
+        float worst = 0;
+        float total = 0;
+        for (int i = 0; i < HISTORY; i++) {
+            worst = Math.max(worst, frameTimes[i]);
+            total += frameTimes[i];
+        }
+
+        long collections = 0;
+        long collectionTime = 0;
+        for (int i = 0; i < collectors.size(); i++) {
+            GarbageCollectorMXBean collector = collectors.get(i);
+            collections += Math.max(0, collector.getCollectionCount());
+            collectionTime += Math.max(0, collector.getCollectionTime());
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        long used = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+        long max = runtime.maxMemory() / (1024 * 1024);
+
+        ClientPacketHandler packets = context.getPacketHandler();
+
+        text.setLength(0);
+        text.append("fps ").append(Gdx.graphics.getFramesPerSecond());
+        text.append("  avg ");
+        appendMillis(total / HISTORY);
+        text.append("  worst ");
+        appendMillis(worst);
+        text.append('\n');
+        text.append("batch calls ").append(renderCalls).append("  max sprites ").append(maxSpritesInBatch).append('\n');
+        text.append("gl draws ").append(drawCalls).append("  texture binds ").append(textureBindings).append('\n');
+        text.append("packets ").append(packets.getPacketsLastTick()).append("  queued ").append(packets.getQueueSize()).append('\n');
+        text.append("heap ").append(used).append(" / ").append(max).append(" mb").append('\n');
+        text.append("gc ").append(collections - lastCollections).append(" runs ")
+                .append(collectionTime - lastCollectionTime).append(" ms");
+
+        lastCollections = collections;
+        lastCollectionTime = collectionTime;
+
+        cache.setText(text, 0, 0);
+    }
+
+    /**
+     * Appends milliseconds with one decimal
+     */
+    private void appendMillis(float ms) {
+        int tenths = Math.round(ms * 10);
+        text.append(tenths / 10).append('.').append(tenths % 10).append(" ms");
+    }
+}
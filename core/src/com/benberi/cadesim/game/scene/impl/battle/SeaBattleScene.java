@@ -1,33 +1,40 @@
 package com.benberi.cadesim.game.scene.impl.battle;
 
 
+import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.*;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Bezier;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.benberi.cadesim.Constants;
 import com.benberi.cadesim.GameContext;
-import com.benberi.cadesim.game.entity.projectile.CannonBall;
+import com.benberi.cadesim.game.entity.system.*;
 import com.benberi.cadesim.game.entity.vessel.*;
 import com.benberi.cadesim.game.entity.vessel.move.MoveAnimationTurn;
 import com.benberi.cadesim.game.entity.vessel.move.MovePhase;
 import com.benberi.cadesim.game.entity.vessel.move.MoveType;
+import com.benberi.cadesim.game.scene.GameFont;
 import com.benberi.cadesim.game.scene.GameScene;
+import com.benberi.cadesim.game.scene.MaskedSpriteBatch;
 import com.benberi.cadesim.game.scene.impl.battle.map.BlockadeMap;
 import com.benberi.cadesim.game.scene.impl.battle.map.GameObject;
+import com.benberi.cadesim.game.scene.impl.battle.map.MapTileset;
+import com.benberi.cadesim.game.scene.impl.battle.map.PackedCell;
 import com.benberi.cadesim.game.scene.impl.battle.map.tile.GameTile;
-import com.benberi.cadesim.game.scene.impl.battle.map.tile.impl.Cell;
-import com.benberi.cadesim.game.scene.impl.battle.map.tile.impl.Whirlpool;
-import com.benberi.cadesim.game.scene.impl.battle.map.tile.impl.Wind;
 
 import java.util.Iterator;
+import java.util.List;
 
 public class SeaBattleScene implements GameScene {
 
@@ -42,24 +49,63 @@ public class SeaBattleScene implements GameScene {
     private SpriteBatch batch;
 
     /**
-     * The battle map
+     * The camera view of the scene
      */
-    private SeaMap map;
+    private OrthographicCamera camera;
 
     /**
-     * The camera view of the scene
+     * Fits the camera to the window area above the control area
      */
-    private OrthographicCamera camera;
+    private ScreenViewport viewport;
+
+    /**
+     * The smaller frame buffer the battle is drawn into when {@link Constants#RENDER_SCALE} is below 1,
+     * <code>null</code> when drawing straight to the window
+     */
+    private FrameBuffer frame;
+
+    /**
+     * Draws the frame buffer over the battle area, in window pixels
+     */
+    private Matrix4 frameProjection = new Matrix4();
+
+    /**
+     * The camera zoom range and the zoom change per mouse wheel step
+     */
+    private static final float MIN_ZOOM = 0.5f;
+    private static final float MAX_ZOOM = 3f;
+    private static final float ZOOM_STEP = 0.25f;
+
+    /**
+     * From this zoom on, vessels are drawn as markers without names, flags or move bars
+     */
+    private static final float LOW_DETAIL_ZOOM = 1.75f;
+
+    /**
+     * The lowest allowed {@link Constants#RENDER_SCALE}
+     */
+    private static final float MIN_RENDER_SCALE = 0.25f;
 
     /**
-     * The sea texture
+     * The size of the vessel markers on screen, in pixels
      */
-    private Texture sea;
+    private static final float MARKER_SIZE = 8;
 
     /**
-     * The shape renderer
+     * If the scene is zoomed out far enough to draw less detail, updated once per frame
      */
-    private ShapeRenderer renderer;
+    private boolean lowDetail;
+
+    /**
+     * The world position under the mouse before and after zooming
+     */
+    private Vector3 zoomAnchor = new Vector3();
+    private Vector3 zoomTarget = new Vector3();
+
+    /**
+     * Draws the open sea under the camera view
+     */
+    private SeaRenderer sea;
 
     /**
      * If the user can drag the map
@@ -88,45 +134,107 @@ public class SeaBattleScene implements GameScene {
 
     private BlockadeMap blockadeMap;
 
+    /**
+     * The shared rendering data of the map cells
+     */
+    private MapTileset tileset;
+
+    /**
+     * Extra screen space around the camera view, for objects and vessels that are taller than a tile
+     */
+    private static final int VIEW_MARGIN = 100;
+
+    /**
+     * The columns of the map inside the camera view, and the rows inside the view per column
+     */
+    private int visibleMinX;
+    private int visibleMaxX = -1;
+    private int[] visibleMinY = new int[0];
+    private int[] visibleMaxY = new int[0];
+
     private int vesselsCountWithCurrentPhase = 0;
     private int vesselsCountNonSinking = 0;
     private boolean turnFinished;
-    private Vector3 mousePosititon;
+
+    /**
+     * The mouse position in world coordinates, unprojected once per frame
+     */
+    private Vector3 mouse = new Vector3();
+
+    /**
+     * The vessel under the mouse, picked once per frame for both rendering and input
+     */
+    private Vessel hoveredVessel;
+
+    /**
+     * The vessel selected by clicking it, and its name to notice when it left the game
+     */
+    private Vessel selectedVessel;
+    private String selectedName;
+
+    /**
+     * The systems updating the battle entities, see {@link com.benberi.cadesim.game.entity.EntityManager#getEngine()}
+     */
+    private EntitySystem[] systems;
+
+    private ShotRenderSystem shotRender;
+
+    private EffectSystem effects;
+
+    /**
+     * Frame timings and counters, toggled with F3
+     */
+    private PerformanceOverlay performance;
 
     public SeaBattleScene(GameContext context) {
         this.context = context;
         information = new GameInformation(context, this);
+        performance = new PerformanceOverlay(context);
+    }
+
+    public void createMap(int width, int height, int safeZoneLower, int safeZoneUpper, int[][] tiles) {
+        this.blockadeMap = new BlockadeMap(context, width, height, safeZoneLower, safeZoneUpper, tiles);
     }
 
-    public void createMap(int[][] tiles) {
-        this.blockadeMap = new BlockadeMap(context, tiles);
+    public void setMap(BlockadeMap map) {
+        this.blockadeMap = map;
     }
 
-    private void recountVessels() {
+    public void recountVessels() {
         vesselsCountWithCurrentPhase = context.getEntities().countVsselsByPhase(currentPhase);
         vesselsCountNonSinking = context.getEntities().countNonSinking();
     }
 
     @Override
     public void create() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("core/assets/font/Pixel-Miners.otf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size =8;
-        parameter.spaceX = 0;
-        parameter.shadowColor = new Color(0, 0, 0, 0.5f);
-        parameter.borderColor = Color.BLACK;
-        parameter.borderWidth = 1;
-        parameter.borderStraight = true;
-        parameter.shadowOffsetY = 1;
-        parameter.shadowOffsetX = 1;
-        font = generator.generateFont(parameter);
-
-        renderer = new ShapeRenderer();
-        this.batch = new SpriteBatch();
+        font = context.getAssets().getFont(GameFont.VESSEL);
+
+        this.batch = new MaskedSpriteBatch(context.getTextures());
         information.create();
-        sea = new Texture("core/assets/sea/sea1.png");
-        sea.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
-        camera = new OrthographicCamera(Gdx.graphics.getWidth(), Gdx.graphics.getHeight() - 200);
+        tileset = new MapTileset(context);
+        tileset.create();
+        sea = new SeaRenderer();
+        sea.create(context.getTextures().getSea());
+        camera = new OrthographicCamera();
+        viewport = new ScreenViewport(camera);
+        resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+
+        effects = new EffectSystem(context, 6);
+        shotRender = new ShotRenderSystem(this, effects);
+        systems = new EntitySystem[] {
+                new SinkingSystem(0),
+                new DelaySystem(1),
+                new PhaseSystem(context, this, 2),
+                new ShootSystem(context, this, 3),
+                new BumpSystem(4),
+                new MovementSystem(this, 5),
+                new ProjectileSystem(context, 7),
+                effects,
+                shotRender
+        };
+        for (EntitySystem system : systems) {
+            context.getEntities().getEngine().addSystem(system);
+        }
     }
 
     @Override
@@ -169,227 +277,10 @@ public class SeaBattleScene implements GameScene {
             }
         }
 
-        for (Vessel vessel : context.getEntities().listVesselEntities()) {
-            if (vessel.isSinking()) {
-                if (!vessel.isSinkingTexture()) {
-                    vessel.tickNonSinkingTexture();
-                }
-                else {
-                    vessel.tickSinkingTexture();
-                }
-                continue;
-            }
-            if (vessel.getMoveDelay() != -1) {
-                vessel.tickMoveDelay();
-            }
-
-            if (!vessel.isMoving()) {
-                if (currentSlot != -1) {
-                    MoveAnimationTurn turn = vessel.getStructure().getTurn(currentSlot);
-                    if (currentPhase == MovePhase.MOVE_TOKEN && vessel.getMovePhase() == null) {
-                        if (turn.getAnimation() != VesselMovementAnimation.NO_ANIMATION && vessel.getMoveDelay() == -1) {
-                            if (!VesselMovementAnimation.isBump(turn.getAnimation())) {
-                                vessel.performMove(turn.getAnimation());
-
-                            }
-                            else {
-                                vessel.performBump(turn.getTokenUsed(), turn.getAnimation());
-                            }
-
-                            turn.setAnimation(VesselMovementAnimation.NO_ANIMATION);
-                        }
-                        else {
-                            vessel.setMovePhase(MovePhase.getNext(vessel.getMovePhase()));
-                            recountVessels();
-
-                        }
-                    }
-                    else if (currentPhase == MovePhase.ACTION_MOVE && vessel.getMovePhase() == MovePhase.MOVE_TOKEN && vessel.getMoveDelay() == -1 && !context.getEntities().hasDelayedVessels()) {
-                        if (turn.getSubAnimation() != VesselMovementAnimation.NO_ANIMATION) {
-                            if (!VesselMovementAnimation.isBump(turn.getSubAnimation())) {
-                                vessel.performMove(turn.getSubAnimation());
-
-                            }
-                            else {
-                                vessel.performBump(MoveType.NONE, turn.getSubAnimation());
-                            }
-                            turn.setSubAnimation(VesselMovementAnimation.NO_ANIMATION);
-                        }
-                        else {
-                            vessel.setMovePhase(MovePhase.getNext(vessel.getMovePhase()));
-                            recountVessels();
-                        }
-                    }
-                    else if (currentPhase == MovePhase.SHOOT && vessel.getMovePhase() == MovePhase.ACTION_MOVE  && vessel.getMoveDelay() == -1 && vessel.getCannonballs().size() == 0 && !context.getEntities().hasDelayedVessels()) {
-                        if (turn.getLeftShoots() == 0 && turn.getRightShoots() == 0) {
-                            vessel.setMovePhase(MovePhase.getNext(vessel.getMovePhase()));
-                            recountVessels();
-                        }
-                        else {
-                            if (turn.getLeftShoots() > 0) {
-                                vessel.performLeftShoot(turn.getLeftShoots());
-                                turn.setLeftShoots(0);
-                            }
-                            if (turn.getRightShoots() > 0) {
-                                vessel.performRightShoot(turn.getRightShoots());
-                                turn.setRightShoots(0);
-                            }
-                        }
-                    }
-                }
-            }
-            else {
-                if (vessel.isBumping()) {
-                    VesselBumpVector vector = vessel.getBumpVector();
-                    if (!vessel.isBumpReached()) {
-                        float speed = vessel.getCurrentPerformingMove() == VesselMovementAnimation.BUMP_PHASE_1 ? 1f : 1.75f;
-
-                        vessel.setX(vessel.getX() + (vector.getDirectionX() * speed * Gdx.graphics.getDeltaTime()));
-                        vessel.setY(vessel.getY() + (vector.getDirectionY() * speed * Gdx.graphics.getDeltaTime()));
-
-                        float distance = vector.getStart().dst(new Vector2(vessel.getX(), vessel.getY()));
-                        if(distance >= vector.getDistance())
-                        {
-                            vessel.setPosition(vector.getEnd().x, vector.getEnd().y);
-                            vessel.setBumpReached(true);
-                            if (vessel.getCurrentPerformingMove() == VesselMovementAnimation.BUMP_PHASE_1) {
-                                vessel.tickBumpRotation(2);
-                            }
-                            else {
-                                vessel.tickBumpRotation(1);
-                            }
-
-                        }
-                        else if (vessel.getCurrentPerformingMove() == VesselMovementAnimation.BUMP_PHASE_2 && distance >= vector.getDistance() / 2 && !vector.isPlayedMiddleAnimation()) {
-                            vessel.tickBumpRotation(1);
-                            vector.setPlayedMiddleAnimation(true);
-                        }
-                    }
-                    else {
-                        if (vessel.getCurrentPerformingMove() == VesselMovementAnimation.BUMP_PHASE_1 || vessel.getCurrentPerformingMove().getId() >= 12) {
-                            vessel.setX(vessel.getX() + (vector.getDirectionX() * 2f * Gdx.graphics.getDeltaTime()));
-                            vessel.setY(vessel.getY() + (vector.getDirectionY() * 2f * Gdx.graphics.getDeltaTime()));
-                            if (vector.getStart().dst(new Vector2(vessel.getX(), vessel.getY())) >= vector.getDistance()) {
-                                vessel.setPosition(vector.getEnd().x, vector.getEnd().y);
-                                vessel.tickBumpRotation(1);
-                                vessel.disposeBump();
-                            }
-                        }
-                        else {
-                            vessel.tickBumpRotation(1);
-                            vessel.disposeBump();
-                        }
-                    }
-                }
-                else {
-                    VesselMovementAnimation move = vessel.getCurrentPerformingMove();
-
-                    Vector2 start = vessel.getAnimation().getStartPoint();
-                    Vector2 inbetween = vessel.getAnimation().getInbetweenPoint();
-                    Vector2 end = vessel.getAnimation().getEndPoint();
-                    Vector2 current = vessel.getAnimation().getCurrentAnimationLocation();
-
-                    // calculate step based on progress towards target (0 -> 1)
-                    // float step = 1 - (ship.getEndPoint().dst(ship.getLinearVector()) / ship.getDistanceToEndPoint());
-
-
-                   // float velocityTurns = (0.011f * Gdx.graphics.getDeltaTime()) * 100; //Gdx.graphics.getDeltaTime();
-                    float velocityTurns = (1.25f * Gdx.graphics.getDeltaTime()); //Gdx.graphics.getDeltaTime();
-                    float velocityForward = (1.8f * Gdx.graphics.getDeltaTime());
-
-                    if (!move.isOneDimensionMove()) {
-                        vessel.getAnimation().addStep(velocityTurns);
-                        // step on curve (0 -> 1), first bezier point, second bezier point, third bezier point, temporary vector for calculations
-                        Bezier.quadratic(current, (float) vessel.getAnimation().getCurrentStep(), start.cpy(),
-                                inbetween.cpy(), end.cpy(), new Vector2());
-                    }
-                    else {
-                        // When ship moving forward, we may not want to use the curve
-                        int add = move.getIncrementXForRotation(vessel.getRotationIndex());
-                        if (add == -1 || add == 1) {
-                            current.x += (velocityForward * (float) add);
-                            //current.x += (velocityForward * (float) add);
-                        }
-                        else {
-                            add = move.getIncrementYForRotation(vessel.getRotationIndex());
-                            // current.y += (velocityForward * (float) add);
-                            current.y += (velocityForward * (float) add);
-                        }
-                        /// vessel.getAnimation().addStep(velocityForward);
-                        vessel.getAnimation().addStep(velocityForward);
-                    }
-
-                    int result = (int) (vessel.getAnimation().getCurrentStep() * 100);
-                    vessel.getAnimation().tickAnimationTicks(velocityTurns * 100);
-                    //System.out.println(result);
-
-                    // check if the step is reached to the end, and dispose the movement
-                    if (result >= 100) {
-                        vessel.setX(end.x);
-                        vessel.setY(end.y);
-                        vessel.setMoving(false);
-
-                        if (!move.isOneDimensionMove())
-                            vessel.setRotationIndex(vessel.getRotationTargetIndex());
-
-                        vessel.setMovePhase(MovePhase.getNext(vessel.getMovePhase()));
-                        recountVessels();
-
-                        vessel.setMoveDelay();
-                    }
-                    else {
-                        // process move
-                        vessel.setX(current.x);
-                        vessel.setY(current.y);
-                    }
-
-                    if (result >= 25 && result <= 50 && vessel.getAnimation().getTickIndex() == 0 ||
-                            result >= 50 && result <= 75 && vessel.getAnimation().getTickIndex() == 1 ||
-                            result >= 75 && result <= 100 && vessel.getAnimation().getTickIndex() == 2 ||
-                            result >= 99 && vessel.getAnimation().getTickIndex() == 3 ) {
-                        vessel.tickRotation();
-                        vessel.getAnimation().setTickIndex(vessel.getAnimation().getTickIndex() + 1);
-                    }
-
-                }
-            }
-
-            if (vessel.isSmoking()) {
-                vessel.tickSmoke();
-            }
-            Iterator<CannonBall> itr = vessel.getCannonballs().iterator();
-            while (itr.hasNext()) {
-                CannonBall c = itr.next();
-                if (c.isReleased()) {
-                    if (c.hasSubCannon()) {
-                        if (c.canReleaseSubCannon()) {
-                            c.getSubcannon().setReleased(true);
-                        }
-                    }
-                    if (!c.reached()) {
-                        c.move();
-                    } else {
-                        if (c.finnishedEndingAnimation()) {
-                            itr.remove();
-                        }
-                        else {
-                            c.tickEndingAnimation();
-                        }
-                    }
-                }
-            }
-        }
+        context.getEntities().getEngine().update(Gdx.graphics.getDeltaTime());
 
         if (turnFinished) {
-            boolean found = false;
-            for (Vessel v : context.getEntities().listVesselEntities()) {
-                if (!v.isSinkingAnimationFinished()) {
-                    found = true;
-                    break;
-                }
-            }
-
-            if (!found) {
+            if (!context.getEntities().hasSinkingAnimations()) {
                 context.notifyFinishTurn();
                 turnFinished = false;
             }
@@ -401,11 +292,20 @@ public class SeaBattleScene implements GameScene {
 
     @Override
     public void render() {
+        if (frame != null) {
+            frame.begin();
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        }
+        else {
+            viewport.apply();
+        }
+
         batch.setProjectionMatrix(camera.combined);
+        lowDetail = camera.zoom >= LOW_DETAIL_ZOOM;
+        updateVisibleCells();
+        updateHoveredVessel();
         batch.begin();
 
-        Gdx.gl.glViewport(0,200, Gdx.graphics.getWidth(), Gdx.graphics.getHeight() - 200);
-
         drawSea();
 
         // Render the map
@@ -415,100 +315,101 @@ public class SeaBattleScene implements GameScene {
         renderEntities();
 
         batch.end();
+        performance.recordBatch(batch);
+
+        if (frame != null) {
+            frame.end();
+            viewport.apply();
+            Texture texture = frame.getColorBufferTexture();
+            batch.setProjectionMatrix(frameProjection);
+            batch.begin();
+            batch.draw(texture, 0, 0, viewport.getWorldWidth(), viewport.getWorldHeight(),
+                    0, 0, texture.getWidth(), texture.getHeight(), false, true);
+            batch.end();
+        }
 
         information.render();
+        performance.render(batch, font);
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        viewport.update(width, Math.max(1, height - Constants.CONTROL_AREA_HEIGHT));
+        viewport.setScreenY(Constants.CONTROL_AREA_HEIGHT);
+        frameProjection.setToOrtho2D(0, 0, viewport.getWorldWidth(), viewport.getWorldHeight());
+        performance.resize(viewport.getWorldWidth(), viewport.getWorldHeight());
+
+        if (frame != null) {
+            frame.dispose();
+            frame = null;
+        }
+        float scale = MathUtils.clamp(Constants.RENDER_SCALE, MIN_RENDER_SCALE, 1f);
+        if (scale < 1f) {
+            frame = new FrameBuffer(Pixmap.Format.RGB888, Math.max(1, Math.round(viewport.getScreenWidth() * scale)),
+                    Math.max(1, Math.round(viewport.getScreenHeight() * scale)), false);
+            frame.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+
+        information.resize(width, height);
     }
 
     public GameInformation getInformation() {
         return information;
     }
 
+    /**
+     * If anything on the battle moves by itself, so the next frame has to be drawn right away
+     */
+    public boolean isAnimating() {
+        if (currentSlot != -1 || turnFinished || performance.isVisible()) {
+            return true;
+        }
+        if (context.getEntities().hasProjectiles() || effects.getEffects().size > 0) {
+            return true;
+        }
+        List<Vessel> vessels = context.getEntities().listVesselEntities();
+        for (int i = 0; i < vessels.size(); i++) {
+            Vessel vessel = vessels.get(i);
+            if (vessel.hasScoreDisplay() || !vessel.isSinkingAnimationFinished()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public PerformanceOverlay getPerformanceOverlay() {
+        return performance;
+    }
+
     /**
      * Draws the sea background
      */
     private void drawSea() {
-        batch.draw(sea, -1000, -1000, 0, 0, 5000, 5000);
+        sea.render(batch, camera);
     }
 
     /**
      * Renders all entities
      */
     private void renderEntities() {
-        renderer.setProjectionMatrix(camera.combined);
-
-        for (int x = BlockadeMap.MAP_WIDTH - 1; x > -1; x--) {
-            for (int y = BlockadeMap.MAP_HEIGHT - 1; y > -1; y--) {
-                GameObject object = blockadeMap.getObject(x, y);
-                if (object != null) {
-                    TextureRegion region = object.getRegion();
-
-                    int xx = (object.getX() * GameTile.TILE_WIDTH / 2) - (object.getY() * GameTile.TILE_WIDTH / 2) - region.getRegionWidth() / 2;
-                    int yy = (object.getX() * GameTile.TILE_HEIGHT / 2) + (object.getY() * GameTile.TILE_HEIGHT / 2) - region.getRegionHeight() / 2;
-
-                    if (!object.isOriented() || canDraw(xx + object.getOrientationLocation().getOffsetx(), yy + object.getOrientationLocation().getOffsety(), region.getRegionWidth(), region.getRegionHeight())) {
-                        int offsetX = 0;
-                        int offsetY = 0;
-                        if (object.isOriented()) {
-                            offsetX = object.getOrientationLocation().getOffsetx();
-                            offsetY = object.getOrientationLocation().getOffsety();
-                        }
-                        else {
-                            offsetX = object.getCustomOffsetX();
-                            offsetY = object.getCustomOffsetY();
-                        }
-                        batch.draw(region, xx + offsetX, yy + offsetY);
-                    }
-                }
-
-                Vessel vessel = context.getEntities().getVesselByPosition(x, y);
-                if (vessel != null) {
-                    // X position of the vessel
-                    float xx = getIsometricX(vessel.getX(), vessel.getY(), vessel);
-
-                    // Y position of the vessel
-                    float yy = getIsometricY(vessel.getX(), vessel.getY(), vessel);
-
-                    if (canDraw(xx + vessel.getOrientationLocation().getOffsetx(), yy + vessel.getOrientationLocation().getOffsety(), vessel.getRegionWidth(), vessel.getRegionHeight())) {
-                        // draw vessel
-                        batch.draw(vessel, xx + vessel.getOrientationLocation().getOffsetx(), yy + vessel.getOrientationLocation().getOffsety());
-                    }
-
-
-                    Vector3 v = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-                    camera.unproject(v, 0, 200, Gdx.graphics.getWidth(), Gdx.graphics.getHeight() - 200);
-
-                    float xxx = xx + vessel.getOrientationLocation().getOffsetx();
-                    float yyy = yy + vessel.getOrientationLocation().getOffsety();
-
-                    if (v.x>= xxx && v.x <= xxx + vessel.getRegionWidth() && v.y >= yyy && v.y <= yyy + vessel.getRegionHeight()) {
-
-                        batch.end();
-                        // The vessel radius (diameter / 2)
-                        float radious = vessel.getInfluenceRadius();
-                        renderer.begin(ShapeRenderer.ShapeType.Line);
-                        //renderer.circle(vessel.getX(), vessel.getY(), radious * GameTile.TILE_HEIGHT);
-
-                        Gdx.gl.glEnable(GL20.GL_BLEND);
-                        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        ShaderProgram palette = context.getTextures().getPaletteShader();
+        if (palette != null) {
+            batch.setShader(palette);
+        }
 
-                        Color color = (context.myVessel.equals(vessel.getName()) || context.myTeam.getID() == vessel.getTeam().getID()) ? Vessel.DEFAULT_BORDER_COLOR.cpy() : vessel.getTeam().getColor().cpy();
-                        color.a = 0.35f;
+        context.getEntities().updateOccupancy(blockadeMap.getWidth(), blockadeMap.getHeight());
 
-                        renderer.setColor(color);
-                        for (int i = 0; i < 5; i++) {
-                            int width = (int) (radious * GameTile.TILE_WIDTH) + i;
-                            int height = (int) (radious * GameTile.TILE_HEIGHT) + i;
-                            renderer.ellipse(xx - width / 2 + vessel.getRegionWidth() / 2, yy - height / 2 + vessel.getRegionHeight() / 2, width, height);
-                        }
-                        renderer.end();
-
-                        Gdx.gl.glDisable(GL20.GL_BLEND);
-                        batch.begin();
-                    }
-                }
+        short[] cells = blockadeMap.getCells();
+        for (int x = visibleMaxX; x >= visibleMinX; x--) {
+            for (int y = visibleMaxY[x]; y >= visibleMinY[x]; y--) {
+                renderCellEntities(x, y, cells[blockadeMap.indexOf(x, y)]);
             }
         }
 
+        if (palette != null) {
+            batch.setShader(null);
+        }
+
 //        public float getIsometricX(float x, float y, TextureRegion region) {
 //            return (x * GameTile.TILE_WIDTH / 2) - (y * GameTile.TILE_WIDTH / 2) - (region.getRegionWidth() / 2);
 //        }
@@ -518,99 +419,180 @@ public class SeaBattleScene implements GameScene {
 //        }
 
         /*
-         * Render cannon balls
+         * Render cannon balls and shoot smoke
          */
-        for (Vessel vessel : context.getEntities().listVesselEntities()) {
-            for (CannonBall c : vessel.getCannonballs()) {
-                float cx = getIsometricX(c.getX(), c.getY(), c);
-                float cy = getIsometricY(c.getX(), c.getY(), c);
-                if (!canDraw(cx, cy, c.getRegionWidth(), c.getRegionHeight())) {
-                    continue;
-                }
+        shotRender.render(batch);
 
-                if (!c.reached()) {
-                    batch.draw(c, cx, cy);
-                }
-                else {
-                    cx = getIsometricX(c.getX(), c.getY(), c.getEndingAnimationRegion());
-                    cy = getIsometricY(c.getX(), c.getY(), c.getEndingAnimationRegion());
-                    batch.draw(c.getEndingAnimationRegion(), cx, cy);
-                }
-            }
-
-            if (vessel.isSmoking()) {
-                TextureRegion r = vessel.getShootSmoke();
-                float cx = getIsometricX(vessel.getX(), vessel.getY(), r);
-                float cy = getIsometricY(vessel.getX(), vessel.getY(), r);
-                if (canDraw(cx, cy, r.getRegionWidth(), r.getRegionHeight())) {
-                    batch.draw(r, cx, cy);
-                }
-            }
+        TextureRegion pixel = context.getTextures().getWhitePixel();
+        List<Vessel> vessels = context.getEntities().listVesselEntities();
 
-            batch.end();
-            renderer.begin(ShapeRenderer.ShapeType.Line);
+        // The overlays come from the battle atlas and the labels from the font texture,
+        // so all the overlays are drawn before all the labels to switch textures only once
+        for (int i = 0; i < vessels.size(); i++) {
+            Vessel vessel = vessels.get(i);
             // X position of the vessel
             float x = getIsometricX(vessel.getX(), vessel.getY(), vessel);
 
             // Y position of the vessel
             float y = getIsometricY(vessel.getX(), vessel.getY(), vessel);
 
+            if (vessel == hoveredVessel || vessel == selectedVessel) {
+                Color color = (context.myVessel.equals(vessel.getName()) || context.myTeam.getID() == vessel.getTeam().getID()) ? Vessel.DEFAULT_BORDER_COLOR : vessel.getTeam().getColor();
+                TextureRegion ring = context.getTextures().getInfluenceRing(vessel.getInfluenceRadius());
+                batch.setColor(color.r, color.g, color.b, 0.35f);
+                batch.draw(ring, x + vessel.getRegionWidth() / 2 - ring.getRegionWidth() / 2f, y + vessel.getRegionHeight() / 2 - ring.getRegionHeight() / 2f);
+            }
+
+            if (lowDetail) {
+                drawVesselMarker(vessel, x + vessel.getRegionWidth() / 2, y + vessel.getRegionHeight() / 2);
+                continue;
+            }
+
             int width = vessel.getMoveType().getBarWidth();
-            renderer.setColor(Color.BLACK);
-            renderer.rect(x + (vessel.getRegionWidth() / 2) - (width / 2), Math.round(y + vessel.getRegionHeight() * 1.35f), width, 7);
-            renderer.end();
-            renderer.begin(ShapeRenderer.ShapeType.Filled);
-            renderer.setColor(Color.WHITE);
+            float barX = x + (vessel.getRegionWidth() / 2) - (width / 2);
+            float barY = Math.round(y + vessel.getRegionHeight() * 1.35f);
+            batch.setColor(Color.BLACK);
+            context.getTextures().getOutline().draw(batch, barX, barY, width + 1, 8);
 
             int w = (width - 1) / 3;
             int fill = vessel.getNumberOfMoves() > 3 ? 3 : vessel.getNumberOfMoves();
 
-            renderer.rect(x + (vessel.getRegionWidth() / 2) - (width / 2), Math.round(y + vessel.getRegionHeight() * 1.35f) + 1, fill * w, 6);
-            renderer.setColor(Color.RED);
+            batch.setColor(Color.WHITE);
+            batch.draw(pixel, barX, barY + 1, fill * w, 6);
             if (vessel.getMoveType() == VesselMoveType.THREE_MOVES && vessel.getNumberOfMoves() > 3) {
-                renderer.rect(x + (vessel.getRegionWidth() / 2) - (width / 2) + (width - 1) - 2, Math.round(y + vessel.getRegionHeight() * 1.35f) + 1, 10, 6);
-            }
-            renderer.end();
-
-            batch.begin();
-            GlyphLayout layout = new GlyphLayout(font, vessel.getName());
-
-            if (vessel.getName().equalsIgnoreCase(context.myVessel) || vessel.getTeam().getID() == context.myTeam.getID()) {
-                font.setColor(Vessel.DEFAULT_BORDER_COLOR);
+                batch.setColor(Color.RED);
+                batch.draw(pixel, barX + (width - 1) - 2, barY + 1, 10, 6);
+                batch.setColor(Color.WHITE);
             }
-            else {
-                font.setColor(vessel.getTeam().getColor());
-            }
-
-            font.draw(batch, vessel.getName(), x + (vessel.getRegionWidth() / 2) - (layout.width / 2), y + vessel.getRegionHeight() * 1.7f);
 
             float startX = x;
             float flagsY = y + vessel.getRegionHeight() * 1.8f;
 
-            int points = 0;
-            for (FlagSymbol symbol : vessel.getFlags()) {
-                if (!symbol.isWar()) {
-                    points += symbol.getSize();
-                }
+            List<FlagSymbol> flags = vessel.getFlags();
+            for (int j = 0; j < flags.size(); j++) {
+                FlagSymbol symbol = flags.get(j);
                 batch.draw(symbol, startX, flagsY);
                 startX += symbol.getRegionWidth() + 3;
             }
+        }
+
+        for (int i = 0; i < vessels.size(); i++) {
+            Vessel vessel = vessels.get(i);
+            if (lowDetail) {
+                if (vessel.hasScoreDisplay()) {
+                    vessel.tickScoreMovement();
+                }
+                continue;
+            }
+
+            float x = getIsometricX(vessel.getX(), vessel.getY(), vessel);
+            float y = getIsometricY(vessel.getX(), vessel.getY(), vessel);
+
+            Color nameColor = (vessel.getName().equalsIgnoreCase(context.myVessel) || vessel.getTeam().getID() == context.myTeam.getID()) ? Vessel.DEFAULT_BORDER_COLOR : vessel.getTeam().getColor();
+            vessel.getLabel().drawName(batch, font, vessel.getName(), nameColor, x + (vessel.getRegionWidth() / 2), y + vessel.getRegionHeight() * 1.7f);
 
             if (vessel.hasScoreDisplay()) {
+                int points = getFlagPoints(vessel);
                 if (points > 0) {
-                    Color color = (context.myVessel.equals(vessel.getName()) || context.myTeam.getID() == vessel.getTeam().getID()) ? Vessel.DEFAULT_BORDER_COLOR.cpy() : vessel.getTeam().getColor().cpy();
-                    color.a = (float) vessel.getScoreDisplayMovement() / 100f;
-                    if (color.a < 0) {
-                        color.a = 0;
-                    }
-                    font.setColor(color);
-                    font.draw(batch, "+" + points + " points", x + vessel.getRegionWidth() + 20, y + vessel.getRegionHeight() * 1.7f - (100 - vessel.getScoreDisplayMovement()));
+                    Color color = (context.myVessel.equals(vessel.getName()) || context.myTeam.getID() == vessel.getTeam().getID()) ? Vessel.DEFAULT_BORDER_COLOR : vessel.getTeam().getColor();
+                    float alpha = Math.max(0, (float) vessel.getScoreDisplayMovement() / 100f);
+                    vessel.getLabel().drawPoints(batch, font, points, color, alpha, x + vessel.getRegionWidth() + 20, y + vessel.getRegionHeight() * 1.7f - (100 - vessel.getScoreDisplayMovement()));
                 }
                 vessel.tickScoreMovement();
             }
         }
     }
 
+    /**
+     * Sums the sizes of the flags a vessel holds that are not at war
+     * @param vessel    The vessel
+     * @return The points
+     */
+    private int getFlagPoints(Vessel vessel) {
+        int points = 0;
+        List<FlagSymbol> flags = vessel.getFlags();
+        for (int i = 0; i < flags.size(); i++) {
+            FlagSymbol symbol = flags.get(i);
+            if (!symbol.isWar()) {
+                points += symbol.getSize();
+            }
+        }
+        return points;
+    }
+
+
+    /**
+     * Draws a vessel as a diamond in its team color, for zoomed out views
+     * @param vessel    The vessel
+     * @param x         The center x of the vessel
+     * @param y         The center y of the vessel
+     */
+    private void drawVesselMarker(Vessel vessel, float x, float y) {
+        TextureRegion pixel = context.getTextures().getWhitePixel();
+        float size = MARKER_SIZE * camera.zoom;
+        float border = camera.zoom;
+
+        batch.setColor(Color.BLACK);
+        batch.draw(pixel, x - size / 2 - border, y - size / 2 - border, size / 2 + border, size / 2 + border,
+                size + border * 2, size + border * 2, 1, 1, 45);
+        batch.setColor(vessel.isFriendly() ? Vessel.DEFAULT_BORDER_COLOR : vessel.getTeam().getColor());
+        batch.draw(pixel, x - size / 2, y - size / 2, size / 2, size / 2, size, size, 1, 1, 45);
+        batch.setColor(Color.WHITE);
+    }
+
+    /**
+     * Renders the rocks, objects and vessel of a cell
+     */
+    private void renderCellEntities(int x, int y, short cell) {
+        int overlay = PackedCell.getOverlay(cell);
+        if (overlay == BlockadeMap.BIG_ROCK || overlay == BlockadeMap.SMALL_ROCK) {
+            TextureRegion region = tileset.getOverlayRegion(cell);
+
+            int xx = (x * GameTile.TILE_WIDTH / 2) - (y * GameTile.TILE_WIDTH / 2) - region.getRegionWidth() / 2 + tileset.getOverlayOffsetX(cell);
+            int yy = (x * GameTile.TILE_HEIGHT / 2) + (y * GameTile.TILE_HEIGHT / 2) - region.getRegionHeight() / 2 + tileset.getOverlayOffsetY(cell);
+
+            batch.draw(region, xx, yy);
+        }
+
+        GameObject object = blockadeMap.getObject(x, y);
+        if (object != null) {
+            TextureRegion region = object.getRegion();
+
+            int xx = (object.getX() * GameTile.TILE_WIDTH / 2) - (object.getY() * GameTile.TILE_WIDTH / 2) - region.getRegionWidth() / 2;
+            int yy = (object.getX() * GameTile.TILE_HEIGHT / 2) + (object.getY() * GameTile.TILE_HEIGHT / 2) - region.getRegionHeight() / 2;
+
+            int offsetX = 0;
+            int offsetY = 0;
+            if (object.isOriented()) {
+                offsetX = object.getOrientationLocation().getOffsetx();
+                offsetY = object.getOrientationLocation().getOffsety();
+            }
+            else {
+                offsetX = object.getCustomOffsetX();
+                offsetY = object.getCustomOffsetY();
+            }
+            batch.draw(region, xx + offsetX, yy + offsetY);
+        }
+
+        Vessel vessel = context.getEntities().getVesselAt(x, y);
+        if (vessel != null && !lowDetail) {
+            // X position of the vessel
+            float xx = getIsometricX(vessel.getX(), vessel.getY(), vessel);
+
+            // Y position of the vessel
+            float yy = getIsometricY(vessel.getX(), vessel.getY(), vessel);
+
+            // draw vessel, enemies in their team color when the palette shader is used
+            boolean tint = context.getTextures().getPaletteShader() != null && !vessel.isFriendly();
+            if (tint) {
+                batch.setColor(vessel.getTeam().getColor());
+            }
+            batch.draw(vessel, xx + vessel.getOrientationLocation().getOffsetx(), yy + vessel.getOrientationLocation().getOffsety());
+            if (tint) {
+                batch.setColor(Color.WHITE);
+            }
+        }
+    }
 
     public float getIsometricX(float x, float y, TextureRegion region) {
         return (x * GameTile.TILE_WIDTH / 2) - (y * GameTile.TILE_WIDTH / 2) - (region.getRegionWidth() / 2);
@@ -620,10 +602,46 @@ public class SeaBattleScene implements GameScene {
         return (x * GameTile.TILE_HEIGHT / 2) + (y * GameTile.TILE_HEIGHT / 2) - (region.getRegionHeight() / 2);
     }
 
+    /**
+     * Gets the map x of an isometric position, the inverse of the tile projection
+     */
+    public float getCellX(float isoX, float isoY) {
+        return isoX / GameTile.TILE_WIDTH + isoY / GameTile.TILE_HEIGHT;
+    }
+
+    /**
+     * Gets the map y of an isometric position, the inverse of the tile projection
+     */
+    public float getCellY(float isoX, float isoY) {
+        return isoY / GameTile.TILE_HEIGHT - isoX / GameTile.TILE_WIDTH;
+    }
+
+    /**
+     * Releases the water shader and the render scale frame buffer when the application exits, on the render thread
+     */
+    public void destroy() {
+        sea.dispose();
+        if (frame != null) {
+            frame.dispose();
+            frame = null;
+        }
+    }
+
+    /**
+     * Resets the battle when the session ended, the scene is reused by the next session
+     */
     @Override
     public void dispose() {
+        effects.clear();
         currentPhase = MovePhase.MOVE_TOKEN;
         currentSlot = -1;
+        turnFinished = false;
+        canDragMap = false;
+        hoveredVessel = null;
+        selectedVessel = null;
+        selectedName = null;
+        camera.position.setZero();
+        camera.zoom = 1;
         information.dispose();
         recountVessels();
     }
@@ -635,15 +653,42 @@ public class SeaBattleScene implements GameScene {
         }
 
         if (this.canDragMap) {
-            camera.translate(-x, y);
+            camera.translate(-x * camera.zoom, y * camera.zoom);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean handleScroll(float x, float y, int amount) {
+        if (y > camera.viewportHeight) {
+            return false;
         }
 
+        float zoom = MathUtils.clamp(camera.zoom + amount * ZOOM_STEP, MIN_ZOOM, MAX_ZOOM);
+        if (zoom == camera.zoom) {
+            return true;
+        }
+
+        // keep the world position under the mouse in place
+        zoomAnchor.set(x, y, 0);
+        viewport.unproject(zoomAnchor);
+        camera.zoom = zoom;
+        camera.update();
+        zoomTarget.set(x, y, 0);
+        viewport.unproject(zoomTarget);
+        camera.translate(zoomAnchor.x - zoomTarget.x, zoomAnchor.y - zoomTarget.y);
+        camera.update();
         return true;
     }
 
     @Override
     public boolean handleClick(float x, float y, int button) {
         if (y < camera.viewportHeight) {
+            if (button == Input.Buttons.LEFT) {
+                selectedVessel = hoveredVessel;
+                selectedName = hoveredVessel != null ? hoveredVessel.getName() : null;
+            }
             this.canDragMap = true;
             return true;
         }
@@ -653,7 +698,6 @@ public class SeaBattleScene implements GameScene {
 
     @Override
     public boolean handleMouseMove(float x, float y) {
-        this.mousePosititon = new Vector3(x, y, 0);
         return false;
     }
 
@@ -669,42 +713,116 @@ public class SeaBattleScene implements GameScene {
 
 
     private void renderSeaBattle() {
+        short[] cells = blockadeMap.getCells();
+        for (int i = visibleMinX; i <= visibleMaxX; i++) {
+            for (int j = visibleMinY[i]; j <= visibleMaxY[i]; j++) {
+                short cell = cells[blockadeMap.indexOf(i, j)];
+                TextureRegion region = tileset.getSeaRegion(cell);
+                int x = (i * GameTile.TILE_WIDTH / 2) - (j * GameTile.TILE_WIDTH / 2) - region.getRegionWidth() / 2;
+                int y = (i * GameTile.TILE_HEIGHT / 2) + (j * GameTile.TILE_HEIGHT / 2) - region.getRegionHeight() / 2;
 
-        int count = 0;
+                batch.draw(region, x, y);
+                int overlay = PackedCell.getOverlay(cell);
+                if (overlay >= BlockadeMap.WIND_WEST && overlay <= BlockadeMap.WP_SE) {
+                    batch.draw(tileset.getOverlayRegion(cell), x, y);
+                }
+            }
+        }
+    }
 
-        // The map tiles
-       // GameTile[][] tiles = map.getTiles();
+    /**
+     * Computes the range of cells inside the camera view, for each visible column of the map
+     *
+     * A screen rectangle is a diamond in map space, so the rows are bounded per column by the
+     * left/right and the bottom/top edges of the view.
+     */
+    private void updateVisibleCells() {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2 + VIEW_MARGIN;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2 + VIEW_MARGIN;
+        float left = camera.position.x - halfWidth;
+        float right = camera.position.x + halfWidth;
+        float bottom = camera.position.y - halfHeight;
+        float top = camera.position.y + halfHeight;
+
+        int width = blockadeMap.getWidth();
+        int height = blockadeMap.getHeight();
+        if (visibleMinY.length < width) {
+            visibleMinY = new int[width];
+            visibleMaxY = new int[width];
+        }
 
-        Cell[][] sea = blockadeMap.getSea();
-        Wind[][] winds = blockadeMap.getWinds();
-        Whirlpool[][] whirls = blockadeMap.getWhirls();
+        visibleMinX = Math.max(0, (int) Math.ceil(getCellX(left, bottom)));
+        visibleMaxX = Math.min(width - 1, (int) Math.floor(getCellX(right, top)));
+        for (int x = visibleMinX; x <= visibleMaxX; x++) {
+            float minY = Math.max(x - right * 2 / GameTile.TILE_WIDTH, bottom * 2 / GameTile.TILE_HEIGHT - x);
+            float maxY = Math.min(x - left * 2 / GameTile.TILE_WIDTH, top * 2 / GameTile.TILE_HEIGHT - x);
+            visibleMinY[x] = Math.max(0, (int) Math.ceil(minY));
+            visibleMaxY[x] = Math.min(height - 1, (int) Math.floor(maxY));
+        }
+    }
 
-        for (int i = 0; i < sea.length; i++) {
-            for(int j = 0; j < sea[i].length; j++) {
-                TextureRegion region = sea[i][j].getRegion();
-                int x = (i * GameTile.TILE_WIDTH / 2) - (j * GameTile.TILE_WIDTH / 2) - region.getRegionWidth() / 2;
-                int y = (i * GameTile.TILE_HEIGHT / 2) + (j * GameTile.TILE_HEIGHT / 2) - region.getRegionHeight() / 2;
+    /**
+     * Picks the vessel under the mouse
+     *
+     * A vessel standing on the cell under the mouse wins, otherwise the front-most vessel whose
+     * sprite contains the mouse, as the sprites reach over the cells behind them.
+     */
+    private void updateHoveredVessel() {
+        mouse.set(Gdx.input.getX(), Gdx.input.getY(), 0);
+        viewport.unproject(mouse);
 
-                if (canDraw(x, y, GameTile.TILE_WIDTH, GameTile.TILE_HEIGHT)) {
-                    count++;
-                    batch.draw(region, x, y);
-                    if (winds[i][j] != null) {
-                        region = winds[i][j].getRegion();
+        if (selectedVessel != null && context.getEntities().getVesselByName(selectedName) != selectedVessel) {
+            selectedVessel = null;
+            selectedName = null;
+        }
 
-                        batch.draw(region, x, y);
-                    }
-                    else if (whirls[i][j] != null) {
-                        region = whirls[i][j].getRegion();
-                        batch.draw(region, x, y);
-                    }
-                }
+        hoveredVessel = null;
+        if (Gdx.input.getY() > Gdx.graphics.getHeight() - Constants.CONTROL_AREA_HEIGHT) {
+            return;
+        }
+
+        int cellX = Math.round(getCellX(mouse.x, mouse.y));
+        int cellY = Math.round(getCellY(mouse.x, mouse.y));
+        float front = Float.MAX_VALUE;
+        List<Vessel> vessels = context.getEntities().listVesselEntities();
+        for (int i = 0; i < vessels.size(); i++) {
+            Vessel vessel = vessels.get(i);
+            if (Math.round(vessel.getX()) == cellX && Math.round(vessel.getY()) == cellY) {
+                hoveredVessel = vessel;
+                return;
+            }
+
+            float x = getIsometricX(vessel.getX(), vessel.getY(), vessel) + vessel.getOrientationLocation().getOffsetx();
+            float y = getIsometricY(vessel.getX(), vessel.getY(), vessel) + vessel.getOrientationLocation().getOffsety();
+            float depth = vessel.getX() + vessel.getY();
+            if (depth < front && mouse.x >= x && mouse.x <= x + vessel.getRegionWidth() && mouse.y >= y && mouse.y <= y + vessel.getRegionHeight()) {
+                hoveredVessel = vessel;
+                front = depth;
             }
         }
     }
 
-    private boolean canDraw(float x, float y, int width, int height) {
-        return x + width >= camera.position.x - camera.viewportWidth / 2 && x <= camera.position.x + camera.viewportWidth / 2 &&
-                y + height >= camera.position.y - camera.viewportHeight / 2 && y <= camera.position.y + camera.viewportHeight / 2;
+    /**
+     * Gets the vessel under the mouse
+     * @return The vessel, or <code>null</code> if there is none
+     */
+    public Vessel getHoveredVessel() {
+        return hoveredVessel;
+    }
+
+    /**
+     * Gets the vessel selected by clicking it
+     * @return The vessel, or <code>null</code> if none is selected
+     */
+    public Vessel getSelectedVessel() {
+        return selectedVessel;
+    }
+
+    public boolean canDraw(float x, float y, int width, int height) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2;
+        return x + width >= camera.position.x - halfWidth && x <= camera.position.x + halfWidth &&
+                y + height >= camera.position.y - halfHeight && y <= camera.position.y + halfHeight;
     }
 
     public void setTurnExecute() {
@@ -716,6 +834,14 @@ public class SeaBattleScene implements GameScene {
         recountVessels();
     }
 
+    public int getCurrentSlot() {
+        return currentSlot;
+    }
+
+    public MovePhase getCurrentPhase() {
+        return currentPhase;
+    }
+
     public BlockadeMap getMap() {
         return blockadeMap;
     }
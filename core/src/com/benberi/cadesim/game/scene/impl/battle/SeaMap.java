@@ -1,40 +0,0 @@
-package com.benberi.cadesim.game.scene.impl.battle;
-
-import com.benberi.cadesim.GameContext;
-import com.benberi.cadesim.game.scene.impl.battle.map.tile.GameTile;
-import com.benberi.cadesim.game.scene.impl.battle.map.tile.impl.BigRock;
-import com.benberi.cadesim.game.scene.impl.battle.map.tile.impl.Cell;
-import com.benberi.cadesim.game.scene.impl.battle.map.tile.impl.SafeZone;
-import com.benberi.cadesim.game.scene.impl.battle.map.tile.impl.SmallRock;
-
-/**
- * Represents a battle arena map
- */
-public class SeaMap {
-
-    /**
-     * Map dimension-x
-     */
-    public static final int MAP_WIDTH = 20;
-
-    /**
-     * Map dimension-y
-     */
-    public static final int MAP_HEIGHT = 36;
-
-    private GameContext context;
-
-    /**
-     * Map tiles
-     */
-    private GameTile[][] tiles = new GameTile[MAP_WIDTH][MAP_HEIGHT];
-
-    public SeaMap(GameContext context, int[][] map) {
-        this.context = context;
-        SafeZone safe = new SafeZone(context);
-    }
-
-    public GameTile[][] getTiles() {
-        return this.tiles;
-    }
-}
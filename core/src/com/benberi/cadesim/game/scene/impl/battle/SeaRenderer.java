@@ -0,0 +1,101 @@
+package com.benberi.cadesim.game.scene.impl.battle;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Draws the open sea behind the map as a single quad covering exactly the camera view
+ *
+ * The texture coordinates follow the camera position and zoom, so the repeating sea texture stays
+ * fixed to the world while panning, and never runs out however far the camera goes.
+ */
+public class SeaRenderer {
+
+    /**
+     * The speed of the waves, in radians of phase per second
+     */
+    private static final float WAVE_SPEED = 1.2f;
+
+    /**
+     * The longest time the waves move in one frame, so the sea does not jump when frames are
+     * only drawn now and then while the battle is idle
+     */
+    private static final float MAX_WAVE_STEP = 1 / 30f;
+
+    /**
+     * The repeating sea texture
+     */
+    private Texture sea;
+
+    /**
+     * Animates waves on the sea texture, <code>null</code> if it did not compile
+     */
+    private ShaderProgram waterShader;
+
+    /**
+     * The current wave phase
+     */
+    private float phase;
+
+    /**
+     * @param sea   The repeating sea texture, see {@link com.benberi.cadesim.game.scene.TextureCollection#getSea()}
+     */
+    public void create(Texture sea) {
+        this.sea = sea;
+
+        ShaderProgram shader = new ShaderProgram(Gdx.files.internal("core/assets/shader/water.vert"),
+                Gdx.files.internal("core/assets/shader/water.frag"));
+        if (!shader.isCompiled()) {
+            System.err.println("Water shader not available, drawing a still sea: " + shader.getLog());
+            shader.dispose();
+            return;
+        }
+        waterShader = shader;
+    }
+
+    /**
+     * Draws the sea under the camera view
+     * @param batch     The batch, which must be drawing with the camera projection
+     * @param camera    The camera
+     */
+    public void render(SpriteBatch batch, OrthographicCamera camera) {
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        float x = camera.position.x - width / 2;
+        float y = camera.position.y - height / 2;
+
+        // keep the coordinates small, the texture repeats anyway
+        float u = x / sea.getWidth();
+        float v = -y / sea.getHeight();
+        u -= MathUtils.floor(u);
+        v -= MathUtils.floor(v);
+        float u2 = u + width / sea.getWidth();
+        float v2 = v - height / sea.getHeight();
+
+        if (waterShader != null) {
+            phase = (phase + WAVE_SPEED * Math.min(Gdx.graphics.getDeltaTime(), MAX_WAVE_STEP)) % MathUtils.PI2;
+            batch.setShader(waterShader);
+            waterShader.setUniformf("u_time", phase);
+        }
+
+        batch.draw(sea, x, y, width, height, u, v, u2, v2);
+
+        if (waterShader != null) {
+            batch.setShader(null);
+        }
+    }
+
+    /**
+     * Disposes the water shader, the sea texture belongs to the texture collection
+     */
+    public void dispose() {
+        if (waterShader != null) {
+            waterShader.dispose();
+            waterShader = null;
+        }
+    }
+}
@@ -3,19 +3,10 @@ package com.benberi.cadesim.game.scene.impl.battle.map;
 import com.benberi.cadesim.GameContext;
 import com.benberi.cadesim.game.scene.impl.battle.map.layer.BlockadeMapLayer;
 import com.benberi.cadesim.game.scene.impl.battle.map.tile.impl.*;
-import com.benberi.cadesim.util.RandomUtils;
 
-public class BlockadeMap {
-
-    /**
-     * Map dimension-x
-     */
-    public static final int MAP_WIDTH = 20;
+import java.util.Random;
 
-    /**
-     * Map dimension-y
-     */
-    public static final int MAP_HEIGHT = 36;
+public class BlockadeMap {
 
     public static final int BIG_ROCK = 1;
     public static final int SMALL_ROCK = 2;
@@ -33,6 +24,29 @@ public class BlockadeMap {
     public static final int FLAG_2 = 12;
     public static final int FLAG_3 = 13;
 
+    /**
+     * The maximum distance in cells a cannon ball travels
+     */
+    public static final int FIRE_RANGE = 3;
+
+    /**
+     * Line of fire directions, along the map axes
+     */
+    public static final int DIRECTION_PLUS_X = 0;
+    public static final int DIRECTION_MINUS_X = 1;
+    public static final int DIRECTION_PLUS_Y = 2;
+    public static final int DIRECTION_MINUS_Y = 3;
+
+    public static final int DIRECTIONS = 4;
+
+    /**
+     * The cells are stored in square chunks of {@link #CHUNK_SIZE} cells per side, so that the
+     * cells close on the map are close in memory
+     */
+    private static final int CHUNK_BITS = 3;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
 
     /**
      * The game context
@@ -40,9 +54,24 @@ public class BlockadeMap {
     private GameContext context;
 
     /**
-     * The rocks layer
+     * Map dimension-x
+     */
+    private int width;
+
+    /**
+     * Map dimension-y
      */
-    private BlockadeMapLayer<GameObject> rocks = new BlockadeMapLayer();
+    private int height;
+
+    /**
+     * Rows below this row are part of the safe zone
+     */
+    private int safeZoneLower;
+
+    /**
+     * Rows above this row are part of the safe zone
+     */
+    private int safeZoneUpper;
 
     /**
      * Flags layer
@@ -50,98 +79,259 @@ public class BlockadeMap {
     private BlockadeMapLayer<Flag> flags = new BlockadeMapLayer<>();
 
     /**
-     * Action tiles such as winds, whirlpools
+     * The number of chunk rows, see {@link #indexOf(int, int)}
      */
-    private Wind[][] winds = new Wind[MAP_WIDTH][MAP_HEIGHT];
-
-    private Whirlpool[][] whirls = new Whirlpool[MAP_WIDTH][MAP_HEIGHT];
+    private int chunksY;
 
     /**
-     * The sea tile
+     * All cells of the map packed by {@link PackedCell}, stored chunk after chunk
      */
-    private Cell[][] sea = new Cell[MAP_WIDTH][MAP_HEIGHT];
+    private short[] cells;
 
-    public BlockadeMap(GameContext context, int[][] tiles) {
-        this.context = context;
+    /**
+     * Distance to the closest big rock in each direction of each cell, 0 if there is none within
+     * {@link #FIRE_RANGE}, indexed by packed cell index times {@link #DIRECTIONS} plus the direction
+     */
+    private byte[] rockDistances;
 
-        // Create the sea tiles
-        for (int x = 0; x < MAP_WIDTH; x++) {
-            for (int y = 0; y < MAP_HEIGHT; y++) {
-                if (y < 3 || y > 32) {
-                    SafeZone zone = new SafeZone(context);
-                    zone.setOrientation(RandomUtils.randInt(0, 3));
-                    sea[x][y] = zone;
-                }
-                else {
-                    Cell cell = new Cell(context);
-                    cell.setOrientation(RandomUtils.randInt(0, 3));
-                    sea[x][y] = cell;
-                }
+    /**
+     * Builds a map from the tile ids sent by the server
+     */
+    public BlockadeMap(GameContext context, int width, int height, int safeZoneLower, int safeZoneUpper, int[][] tiles) {
+        this(context, width, height, safeZoneLower, safeZoneUpper);
+        cells = new short[getCellCount(width, height)];
 
-            }
-        }
-        // Create the sea tiles
-        for (int x = 0; x < MAP_WIDTH; x++) {
-            for (int y = 0; y < MAP_HEIGHT; y++) {
+        Random random = new Random();
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
                 int tile = tiles[x][y];
+                int overlay = 0;
+                int overlayVariant = 0;
                 switch (tile) {
+                    case BIG_ROCK:
+                    case SMALL_ROCK:
+                        overlay = tile;
+                        overlayVariant = random.nextInt(4);
+                        break;
                     case WIND_EAST:
                     case WIND_WEST:
                     case WIND_NORTH:
                     case WIND_SOUTH:
-                        winds[x][y] = new Wind(context, tile);
-                        break;
                     case WP_NE:
                     case WP_NW:
                     case WP_SE:
                     case WP_SW:
-                        whirls[x][y] = new Whirlpool(context, tile);
+                        overlay = tile;
+                        overlayVariant = getActionTileVariant(tile);
+                        break;
                 }
+                cells[indexOf(x, y)] = PackedCell.pack(random.nextInt(4), isSafeZone(y), overlay, overlayVariant);
             }
         }
 
-        for (int x = 0; x < MAP_WIDTH; x++) {
-            for (int y = 0; y < MAP_HEIGHT; y++) {
-                int tile = tiles[x][y];
-                switch (tile) {
-                    case SMALL_ROCK:
-                        rocks.add(new SmallRock(context, x, y));
-                        break;
-                    case BIG_ROCK:
-                        rocks.add( new BigRock(context, x, y));
-                        break;
+        createRockDistances();
+    }
+
+    /**
+     * Restores a map from its baked cells and line of fire tables, see {@link MapCache}
+     */
+    public BlockadeMap(GameContext context, int width, int height, int safeZoneLower, int safeZoneUpper, short[] cells, byte[] rockDistances) {
+        this(context, width, height, safeZoneLower, safeZoneUpper);
+        if (cells.length != getCellCount(width, height)) {
+            throw new IllegalArgumentException("Baked map has " + cells.length + " cells, expected " + getCellCount(width, height));
+        }
+        if (rockDistances.length != cells.length * DIRECTIONS) {
+            throw new IllegalArgumentException("Baked map has " + rockDistances.length + " rock distances, expected " + cells.length * DIRECTIONS);
+        }
+        this.cells = cells;
+        this.rockDistances = rockDistances;
+    }
+
+    private BlockadeMap(GameContext context, int width, int height, int safeZoneLower, int safeZoneUpper) {
+        this.context = context;
+        this.width = width;
+        this.height = height;
+        this.safeZoneLower = safeZoneLower;
+        this.safeZoneUpper = safeZoneUpper;
+
+        this.chunksY = (height + CHUNK_SIZE - 1) >> CHUNK_BITS;
+    }
+
+    /**
+     * Gets the length of the packed cell array of a map, chunks are always stored whole
+     */
+    public static int getCellCount(int width, int height) {
+        int chunksX = (width + CHUNK_SIZE - 1) >> CHUNK_BITS;
+        int chunksY = (height + CHUNK_SIZE - 1) >> CHUNK_BITS;
+        return chunksX * chunksY * CHUNK_SIZE * CHUNK_SIZE;
+    }
+
+    /**
+     * Walks the line of fire of every cell once, so cannon targets never have to look up the rocks
+     */
+    private void createRockDistances() {
+        rockDistances = new byte[cells.length * DIRECTIONS];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                int index = indexOf(x, y) * DIRECTIONS;
+                for (int direction = 0; direction < DIRECTIONS; direction++) {
+                    for (int i = 1; i <= FIRE_RANGE; i++) {
+                        if (isBigRock(x + getDirectionX(direction) * i, y + getDirectionY(direction) * i)) {
+                            rockDistances[index + direction] = (byte) i;
+                            break;
+                        }
+                    }
                 }
             }
         }
     }
 
     /**
-     * Gets the sea with randomzied orientation
+     * Gets the x step of a line of fire direction
      */
-    public Cell[][] getSea() {
-        return sea;
+    public static int getDirectionX(int direction) {
+        switch (direction) {
+            case DIRECTION_PLUS_X:
+                return 1;
+            case DIRECTION_MINUS_X:
+                return -1;
+        }
+        return 0;
     }
 
-    public GameObject getObject(float x, float y) {
-        for (GameObject object : rocks.getObjects()) {
-            if (object.getX() == x && object.getY() == y) {
-                return object;
-            }
+    /**
+     * Gets the y step of a line of fire direction
+     */
+    public static int getDirectionY(int direction) {
+        switch (direction) {
+            case DIRECTION_PLUS_Y:
+                return 1;
+            case DIRECTION_MINUS_Y:
+                return -1;
         }
-        for (GameObject object : flags.getObjects()) {
-            if (object.getX() == x && object.getY() == y) {
-                return object;
-            }
+        return 0;
+    }
+
+    /**
+     * Gets the orientation of a wind or whirlpool in its spritesheet
+     */
+    private static int getActionTileVariant(int tile) {
+        switch (tile) {
+            case WIND_NORTH:
+                return 3;
+            case WIND_SOUTH:
+                return 1;
+            case WIND_WEST:
+                return 2;
+            case WIND_EAST:
+                return 0;
+            case WP_NE:
+                return 3;
+            case WP_NW:
+                return 2;
+            case WP_SE:
+                return 0;
+            case WP_SW:
+                return 1;
         }
-        return null;
+        return 0;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getSafeZoneLower() {
+        return safeZoneLower;
     }
 
-    public Wind[][] getWinds() {
-        return winds;
+    public int getSafeZoneUpper() {
+        return safeZoneUpper;
+    }
+
+    /**
+     * If the given row is part of the safe zone
+     */
+    public boolean isSafeZone(int y) {
+        return y < safeZoneLower || y > safeZoneUpper;
+    }
+
+    /**
+     * If the given position is inside the map
+     */
+    public boolean isInBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Gets the packed cell array index of the given map position
+     *
+     * The chunks are stored column after column, and the cells of a chunk the same way, so the
+     * index is computed with shifts only, it is called for every visible cell of every frame.
+     */
+    public int indexOf(int x, int y) {
+        int chunk = (x >> CHUNK_BITS) * chunksY + (y >> CHUNK_BITS);
+        return (chunk << (CHUNK_BITS * 2)) | ((x & CHUNK_MASK) << CHUNK_BITS) | (y & CHUNK_MASK);
+    }
+
+    /**
+     * Gets the packed cells, see {@link PackedCell}
+     */
+    public short[] getCells() {
+        return cells;
+    }
+
+    /**
+     * Gets the packed cell at the given map position
+     */
+    public short getCell(int x, int y) {
+        return cells[indexOf(x, y)];
+    }
+
+    /**
+     * Gets the overlay tile id at the given map position
+     * @return The tile id, 0 if the cell is empty or outside of the map
+     */
+    public int getTile(float x, float y) {
+        int cellX = (int) x;
+        int cellY = (int) y;
+        if (!isInBounds(cellX, cellY)) {
+            return 0;
+        }
+        return PackedCell.getOverlay(getCell(cellX, cellY));
+    }
+
+    /**
+     * If there is a big rock, which blocks cannon balls, at the given map position
+     */
+    public boolean isBigRock(float x, float y) {
+        return getTile(x, y) == BIG_ROCK;
+    }
+
+    /**
+     * Gets the distance from the given cell to the closest big rock in the given direction
+     * @return The distance, 0 if there is no big rock within {@link #FIRE_RANGE} or the cell is outside of the map
+     */
+    public int getRockDistance(int x, int y, int direction) {
+        if (!isInBounds(x, y)) {
+            return 0;
+        }
+        return rockDistances[indexOf(x, y) * DIRECTIONS + direction];
+    }
+
+    /**
+     * Gets the line of fire tables, see {@link #getRockDistance(int, int, int)}
+     */
+    public byte[] getRockDistances() {
+        return rockDistances;
     }
 
-    public Whirlpool[][] getWhirls() {
-        return whirls;
+    public GameObject getObject(int x, int y) {
+        return flags.get(x, y);
     }
 
     public BlockadeMapLayer<Flag> getFlags() {
@@ -0,0 +1,193 @@
+package com.benberi.cadesim.game.scene.impl.battle.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.benberi.cadesim.GameContext;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Content-addressed on-disk cache of decoded maps
+ *
+ * Maps are keyed by the SHA-256 of the map as sent by the server: width, height and the safe zone
+ * bounds as bytes, followed by every tile id as a byte, column after column. The cached file holds
+ * the baked {@link BlockadeMap}, so a cache hit skips both the map transfer and the map build.
+ */
+public class MapCache {
+
+    /**
+     * The cache directory, relative to the local storage
+     */
+    private static final String DIRECTORY = "cache/maps/";
+
+    /**
+     * File header, "OBSM"
+     */
+    private static final int MAGIC = 0x4F42534D;
+
+    /**
+     * The cached file format version, files of other versions are ignored
+     */
+    private static final int FORMAT = 2;
+
+    /**
+     * The largest map side, sizes are sent as a single byte
+     */
+    private static final int MAX_SIZE = 255;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private GameContext context;
+
+    public MapCache(GameContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Hashes a map the way the server does
+     * @return The hash, or <code>null</code> if hashing is not available
+     */
+    public static byte[] hash(int width, int height, int safeZoneLower, int safeZoneUpper, int[][] tiles) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((byte) width);
+            digest.update((byte) height);
+            digest.update((byte) safeZoneLower);
+            digest.update((byte) safeZoneUpper);
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    digest.update((byte) tiles[x][y]);
+                }
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Converts a hash to the hexadecimal form used for file names
+     */
+    public static String toHex(byte[] hash) {
+        char[] chars = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            chars[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    private FileHandle getFile(byte[] hash) {
+        return Gdx.files.local(DIRECTORY + toHex(hash) + ".map");
+    }
+
+    /**
+     * Loads a cached map
+     * @param hash  The map hash
+     * @return The map, or <code>null</code> if it is not cached or the file is unusable
+     */
+    public BlockadeMap load(byte[] hash) {
+        FileHandle file = getFile(hash);
+        if (!file.exists()) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(file.readBytes());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+                return null;
+            }
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            int safeZoneLower = buffer.getInt();
+            int safeZoneUpper = buffer.getInt();
+            if (width <= 0 || width > MAX_SIZE || height <= 0 || height > MAX_SIZE) {
+                System.err.println("Ignoring cached map " + file.name() + ": invalid size " + width + "x" + height);
+                return null;
+            }
+
+            int cellCount = BlockadeMap.getCellCount(width, height);
+            if (buffer.getInt() != cellCount) {
+                System.err.println("Ignoring cached map " + file.name() + ": wrong cell count");
+                return null;
+            }
+            short[] cells = new short[cellCount];
+            buffer.asShortBuffer().get(cells);
+            buffer.position(buffer.position() + cells.length * 2);
+
+            if (buffer.getInt() != cellCount * BlockadeMap.DIRECTIONS) {
+                System.err.println("Ignoring cached map " + file.name() + ": wrong rock distance count");
+                return null;
+            }
+            byte[] rockDistances = new byte[cellCount * BlockadeMap.DIRECTIONS];
+            buffer.get(rockDistances);
+
+            return new BlockadeMap(context, width, height, safeZoneLower, safeZoneUpper, cells, rockDistances);
+        } catch (Exception e) {
+            // truncated or unreadable, the map is sent again
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Stores a baked map, written to a temporary file first so a crash or another client never
+     * leaves a partial map behind
+     * @param hash  The map hash
+     * @param map   The map to store
+     */
+    public void store(byte[] hash, BlockadeMap map) {
+        FileHandle file = getFile(hash);
+        File temp = null;
+        DataOutputStream out = null;
+        try {
+            file.parent().mkdirs();
+            temp = File.createTempFile(file.nameWithoutExtension(), ".tmp", file.parent().file());
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT);
+            out.writeInt(map.getWidth());
+            out.writeInt(map.getHeight());
+            out.writeInt(map.getSafeZoneLower());
+            out.writeInt(map.getSafeZoneUpper());
+
+            short[] cells = map.getCells();
+            out.writeInt(cells.length);
+            for (short cell : cells) {
+                out.writeShort(cell);
+            }
+
+            byte[] rockDistances = map.getRockDistances();
+            out.writeInt(rockDistances.length);
+            out.write(rockDistances);
+            out.close();
+            out = null;
+
+            // the cache is keyed by content, so a file stored meanwhile by another client is the same map
+            if (!temp.renameTo(file.file()) && !file.exists()) {
+                System.err.println("Could not store cached map " + file.name());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            if (temp != null && temp.exists()) {
+                temp.delete();
+            }
+        }
+    }
+}
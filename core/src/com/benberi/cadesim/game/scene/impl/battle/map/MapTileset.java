@@ -0,0 +1,97 @@
+package com.benberi.cadesim.game.scene.impl.battle.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.benberi.cadesim.GameContext;
+import com.benberi.cadesim.util.OrientationLocation;
+import com.benberi.cadesim.util.PackedObjectOrientation;
+
+/**
+ * Shared rendering data for packed map cells, one region per tile type and variant
+ */
+public class MapTileset {
+
+    private static final int VARIANTS = 4;
+
+    private static final int OVERLAYS = 16;
+
+    private GameContext context;
+
+    /**
+     * Sea tile regions, by variant
+     */
+    private TextureRegion[] sea = new TextureRegion[VARIANTS];
+    private TextureRegion[] safeZone = new TextureRegion[VARIANTS];
+
+    /**
+     * Overlay regions and their drawing offsets, by overlay id and variant
+     */
+    private TextureRegion[][] overlays = new TextureRegion[OVERLAYS][VARIANTS];
+    private int[][] overlayOffsetX = new int[OVERLAYS][VARIANTS];
+    private int[][] overlayOffsetY = new int[OVERLAYS][VARIANTS];
+
+    public MapTileset(GameContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Creates the regions from the shared sea tile regions
+     */
+    public void create() {
+        createRegions(sea, context.getTextures().getSeaTile("cell"), "cell");
+        createRegions(safeZone, context.getTextures().getSeaTile("safe"), "cell_safe");
+
+        createOverlay(BlockadeMap.BIG_ROCK, context.getTextures().getSeaTile("big_rock"), "big_rock");
+        createOverlay(BlockadeMap.SMALL_ROCK, context.getTextures().getSeaTile("small_rock"), "small_rock");
+        for (int wind = BlockadeMap.WIND_WEST; wind <= BlockadeMap.WIND_SOUTH; wind++) {
+            createOverlay(wind, context.getTextures().getSeaTile("wind"), "cell");
+        }
+        for (int whirl = BlockadeMap.WP_NW; whirl <= BlockadeMap.WP_SE; whirl++) {
+            createOverlay(whirl, context.getTextures().getSeaTile("whirl"), "whirl");
+        }
+    }
+
+    private void createOverlay(int overlay, TextureRegion sheet, String pack) {
+        PackedObjectOrientation orientation = createRegions(overlays[overlay], sheet, pack);
+        for (int variant = 0; variant < VARIANTS; variant++) {
+            OrientationLocation location = orientation.getOrienation(variant);
+            overlayOffsetX[overlay][variant] = location.getOffsetx();
+            overlayOffsetY[overlay][variant] = location.getOffsety();
+        }
+    }
+
+    private PackedObjectOrientation createRegions(TextureRegion[] regions, TextureRegion sheet, String pack) {
+        PackedObjectOrientation orientation = context.getTools().getGson().fromJson(
+                Gdx.files.internal("core/assets/objects/" + pack + ".json").readString(),
+                PackedObjectOrientation.class);
+        for (int variant = 0; variant < VARIANTS; variant++) {
+            OrientationLocation location = orientation.getOrienation(variant);
+            regions[variant] = new TextureRegion(sheet, location.getX(), location.getY(), location.getWidth(), location.getHeight());
+        }
+        return orientation;
+    }
+
+    /**
+     * Gets the sea tile region of a packed cell
+     */
+    public TextureRegion getSeaRegion(short cell) {
+        int variant = PackedCell.getVariant(cell);
+        return PackedCell.isSafeZone(cell) ? safeZone[variant] : sea[variant];
+    }
+
+    /**
+     * Gets the overlay region of a packed cell
+     * @return The region, or <code>null</code> if the cell has no overlay
+     */
+    public TextureRegion getOverlayRegion(short cell) {
+        return overlays[PackedCell.getOverlay(cell)][PackedCell.getOverlayVariant(cell)];
+    }
+
+    public int getOverlayOffsetX(short cell) {
+        return overlayOffsetX[PackedCell.getOverlay(cell)][PackedCell.getOverlayVariant(cell)];
+    }
+
+    public int getOverlayOffsetY(short cell) {
+        return overlayOffsetY[PackedCell.getOverlay(cell)][PackedCell.getOverlayVariant(cell)];
+    }
+}
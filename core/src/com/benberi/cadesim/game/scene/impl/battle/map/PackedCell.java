@@ -0,0 +1,56 @@
+package com.benberi.cadesim.game.scene.impl.battle.map;
+
+/**
+ * Encodes a whole map cell into a single short
+ *
+ * Bits 0-1 hold the sea tile variant, bit 2 marks a safe zone tile, bits 3-6 hold the overlay
+ * (the server tile id, see {@link BlockadeMap}) and bits 7-8 hold the overlay variant.
+ */
+public final class PackedCell {
+
+    private static final int VARIANT_MASK = 0x3;
+
+    private static final int SAFE_ZONE_BIT = 1 << 2;
+
+    private static final int OVERLAY_SHIFT = 3;
+    private static final int OVERLAY_MASK = 0xF;
+
+    private static final int OVERLAY_VARIANT_SHIFT = 7;
+
+    private PackedCell() {
+    }
+
+    /**
+     * Packs a cell
+     * @param variant           The sea tile variant (0-3)
+     * @param safeZone          If the cell is part of the safe zone
+     * @param overlay           The overlay tile id, 0 for none
+     * @param overlayVariant    The overlay variant (0-3)
+     * @return  The packed cell
+     */
+    public static short pack(int variant, boolean safeZone, int overlay, int overlayVariant) {
+        int cell = variant & VARIANT_MASK;
+        if (safeZone) {
+            cell |= SAFE_ZONE_BIT;
+        }
+        cell |= (overlay & OVERLAY_MASK) << OVERLAY_SHIFT;
+        cell |= (overlayVariant & VARIANT_MASK) << OVERLAY_VARIANT_SHIFT;
+        return (short) cell;
+    }
+
+    public static int getVariant(short cell) {
+        return cell & VARIANT_MASK;
+    }
+
+    public static boolean isSafeZone(short cell) {
+        return (cell & SAFE_ZONE_BIT) != 0;
+    }
+
+    public static int getOverlay(short cell) {
+        return (cell >> OVERLAY_SHIFT) & OVERLAY_MASK;
+    }
+
+    public static int getOverlayVariant(short cell) {
+        return (cell >> OVERLAY_VARIANT_SHIFT) & VARIANT_MASK;
+    }
+}
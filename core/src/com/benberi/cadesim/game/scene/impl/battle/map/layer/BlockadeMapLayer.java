@@ -1,9 +1,12 @@
 package com.benberi.cadesim.game.scene.impl.battle.map.layer;
 
+import com.badlogic.gdx.utils.IntMap;
 import com.benberi.cadesim.game.scene.impl.battle.map.GameObject;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Predicate;
 
 public class BlockadeMapLayer<T extends GameObject> {
 
@@ -12,8 +15,14 @@ public class BlockadeMapLayer<T extends GameObject> {
      */
     private List<T> objects = new ArrayList<>();
 
+    /**
+     * The objects in this layer, keyed by their position
+     */
+    private IntMap<T> positions = new IntMap<T>();
+
     public void add(T o) {
         objects.add(o);
+        positions.put(key(o.getX(), o.getY()), o);
     }
 
     public List<T> getObjects() {
@@ -21,15 +30,30 @@ public class BlockadeMapLayer<T extends GameObject> {
     }
 
     public T get(int x, int y) {
-        for (T object : objects) {
-            if (object.getX() == x && object.getY() == y) {
-                return object;
+        return positions.get(key(x, y));
+    }
+
+    /**
+     * Removes all objects matching the given filter
+     * @param filter    The filter
+     */
+    public void removeIf(Predicate<T> filter) {
+        Iterator<T> itr = objects.iterator();
+        while (itr.hasNext()) {
+            T object = itr.next();
+            if (filter.test(object)) {
+                itr.remove();
+                positions.remove(key(object.getX(), object.getY()));
             }
         }
-        return null;
     }
 
     public void clear() {
         objects.clear();
+        positions.clear();
+    }
+
+    private static int key(int x, int y) {
+        return (x << 16) | (y & 0xFFFF);
     }
 }
@@ -1,7 +1,6 @@
 package com.benberi.cadesim.game.scene.impl.battle.map.tile;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.benberi.cadesim.GameContext;
 import com.benberi.cadesim.util.OrientationLocation;
@@ -27,9 +26,9 @@ public abstract class GameTile {
     private GameContext context;
 
     /**
-     * The texture of the tile
+     * The sprite sheet region of the tile
      */
-    private Texture texture;
+    private TextureRegion sheet;
 
     /**
      * The texture region
@@ -44,23 +43,30 @@ public abstract class GameTile {
         this.context = context;
     }
 
-    public void setTexture(Texture texture) {
-        this.texture = texture;
-        this.region = new TextureRegion(texture, 0, 0, TILE_WIDTH, TILE_HEIGHT);
+    public void setSheet(TextureRegion sheet) {
+        this.sheet = sheet;
+        this.region = new TextureRegion(sheet, 0, 0, TILE_WIDTH, TILE_HEIGHT);
     }
 
     /**
-     * Gets the tile texture
-     * @return {@link #texture}
+     * Gets the tile sprite sheet
+     * @return {@link #sheet}
      */
-    public Texture getTexture() {
-        return this.texture;
+    public TextureRegion getSheet() {
+        return this.sheet;
     }
 
     public TextureRegion getRegion() {
         return region;
     }
 
+    /**
+     * Shows a part of the sprite sheet, in sheet coordinates
+     */
+    public void setRegion(int x, int y, int width, int height) {
+        region.setRegion(sheet, x, y, width, height);
+    }
+
     public void setPackedObjectOrientation(String pack) {
         this.orientation = context.getTools().getGson().fromJson(
                 Gdx.files.internal("core/assets/objects/" + pack + ".json").readString(),
@@ -69,7 +75,7 @@ public abstract class GameTile {
 
     public void setOrientation(int index) {
         orientationLocation = orientation.getOrienation(index);
-        region = new TextureRegion(texture, orientationLocation.getX(), orientationLocation.getY(), orientationLocation.getWidth(), orientationLocation.getHeight());
+        region = new TextureRegion(sheet, orientationLocation.getX(), orientationLocation.getY(), orientationLocation.getWidth(), orientationLocation.getHeight());
     }
 
     public OrientationLocation getOrientationLocation() {
@@ -1,10 +1,8 @@
 package com.benberi.cadesim.game.scene.impl.battle.map.tile.impl;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.benberi.cadesim.GameContext;
 import com.benberi.cadesim.game.cade.Team;
 import com.benberi.cadesim.game.scene.impl.battle.map.GameObject;
-import com.benberi.cadesim.util.RandomUtils;
 
 public class Flag extends GameObject {
 
@@ -22,15 +20,20 @@ public class Flag extends GameObject {
     private Team controllerTeam;
     private boolean local;
 
+    /**
+     * If the flag was part of the last flags update
+     */
+    private boolean updated;
+
     public Flag(GameContext context, int x, int y) {
         super(context);
         set(x, y);
-        setTexture(new Texture("core/assets/cade/buoy.png"));
+        setSheet(context.getTextures().getMisc("buoy"));
 
         setCustomOffsetX(2);
         setCustomOffsetY(22);
 
-        size = RandomUtils.randInt(1, 3);
+        updateTextureRegion();
     }
 
     public boolean isAtWar() {
@@ -54,13 +57,13 @@ public class Flag extends GameObject {
         if (local) {
             switch (size) {
                 case 1:
-                    getRegion().setRegion(0, 0, flagWidth, flagHeight);
+                    setRegion(0, 0, flagWidth, flagHeight);
                     break;
                 case 2:
-                    getRegion().setRegion(0, 69, flagWidth, flagHeight);
+                    setRegion(0, 69, flagWidth, flagHeight);
                     break;
                 case 3:
-                    getRegion().setRegion(0, 138, flagWidth, flagHeight);
+                    setRegion(0, 138, flagWidth, flagHeight);
                     break;
             }
             return;
@@ -68,13 +71,13 @@ public class Flag extends GameObject {
         if (atWar) {
             switch (size) {
                 case 1:
-                    getRegion().setRegion(200, 0, flagWidth, flagHeight);
+                    setRegion(200, 0, flagWidth, flagHeight);
                     break;
                 case 2:
-                    getRegion().setRegion(200, 69, flagWidth, flagHeight);
+                    setRegion(200, 69, flagWidth, flagHeight);
                     break;
                 case 3:
-                    getRegion().setRegion(200, 138, flagWidth, flagHeight);
+                    setRegion(200, 138, flagWidth, flagHeight);
                     break;
             }
             return;
@@ -82,13 +85,13 @@ public class Flag extends GameObject {
         if (controllerTeam == null) {
             switch (size) {
                 case 1:
-                    getRegion().setRegion(250, 0, flagWidth, flagHeight);
+                    setRegion(250, 0, flagWidth, flagHeight);
                     break;
                 case 2:
-                    getRegion().setRegion(250, 69, flagWidth, flagHeight);
+                    setRegion(250, 69, flagWidth, flagHeight);
                     break;
                 case 3:
-                    getRegion().setRegion(250, 138, flagWidth, flagHeight);
+                    setRegion(250, 138, flagWidth, flagHeight);
                     break;
             }
             return;
@@ -97,45 +100,59 @@ public class Flag extends GameObject {
             case GREEN:
                 switch (size) {
                     case 1:
-                        getRegion().setRegion(50, 0, flagWidth, flagHeight);
+                        setRegion(50, 0, flagWidth, flagHeight);
                         break;
                     case 2:
-                        getRegion().setRegion(50, 69, flagWidth, flagHeight);
+                        setRegion(50, 69, flagWidth, flagHeight);
                         break;
                     case 3:
-                        getRegion().setRegion(50, 138, flagWidth, flagHeight);
+                        setRegion(50, 138, flagWidth, flagHeight);
                         break;
                 }
                 break;
             case RED:
                 switch (size) {
                     case 1:
-                        getRegion().setRegion(100, 0, flagWidth, flagHeight);
+                        setRegion(100, 0, flagWidth, flagHeight);
                         break;
                     case 2:
-                        getRegion().setRegion(100, 69, flagWidth, flagHeight);
+                        setRegion(100, 69, flagWidth, flagHeight);
                         break;
                     case 3:
-                        getRegion().setRegion(100, 138, flagWidth, flagHeight);
+                        setRegion(100, 138, flagWidth, flagHeight);
                         break;
                 }
                 break;
         }
     }
 
-    public void setSize(int size) {
+    /**
+     * Applies the flag state, the texture region is only updated if anything changed
+     * @param size              The flag size
+     * @param atWar             If the flag is at war
+     * @param controllerTeam    The controlling team, or <code>null</code>
+     * @param local             If the flag is held by the local team
+     */
+    public void setState(int size, boolean atWar, Team controllerTeam, boolean local) {
+        if (this.size == size && this.atWar == atWar && this.controllerTeam == controllerTeam && this.local == local) {
+            return;
+        }
         this.size = size;
+        this.atWar = atWar;
+        this.controllerTeam = controllerTeam;
+        this.local = local;
+        updateTextureRegion();
     }
 
-    public void setAtWar(boolean atWar) {
-        this.atWar = atWar;
+    public void setLocal(boolean local) {
+        setState(size, atWar, controllerTeam, local);
     }
 
-    public void setControllerTeam(Team controllerTeam) {
-        this.controllerTeam = controllerTeam;
+    public boolean isUpdated() {
+        return updated;
     }
 
-    public void setLocal(boolean local) {
-        this.local = local;
+    public void setUpdated(boolean updated) {
+        this.updated = updated;
     }
 }
@@ -12,18 +12,47 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Timer;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.benberi.cadesim.Constants;
 import com.benberi.cadesim.GameContext;
+import com.benberi.cadesim.game.scene.GameFont;
 import com.benberi.cadesim.game.scene.GameScene;
+import com.benberi.cadesim.game.scene.TextureCollection;
 import com.benberi.cadesim.util.RandomUtils;
 
 public class ConnectScene implements GameScene, InputProcessor {
 
+    /**
+     * The size the connect screen is laid out for, it is scaled to fit the window
+     */
+    private static final int WIDTH = 750;
+    private static final int HEIGHT = 700;
+
+    /**
+     * The background texture file, loaded with the connect screen font before the screen shows
+     */
+    public static final String BACKGROUND = "core/assets/bg.png";
+
+    /**
+     * The asset loading bar at the bottom of the screen
+     */
+    private static final int LOADING_X = 15;
+    private static final int LOADING_Y = 15;
+    private static final int LOADING_HEIGHT = 6;
+    private static final Color LOADING_BACKGROUND_COLOR = new Color(0, 0, 0, 0.6f);
+
+    /**
+     * The time between two steps of the connecting dots, in milliseconds
+     */
+    private static final int CONNECT_ANIMATION_MILLIS = 200;
+
     private GameContext context;
 
     private ConnectionSceneState state = ConnectionSceneState.DEFAULT;
@@ -47,6 +76,16 @@ public class ConnectScene implements GameScene, InputProcessor {
 
     private long lastConnectionAnimatinoStateChange;
 
+    /**
+     * Draws the next step of the connecting dots, frames are otherwise only drawn on input and packets
+     */
+    private Timer.Task connectAnimationFrame = new Timer.Task() {
+        @Override
+        public void run() {
+            Gdx.graphics.requestRendering();
+        }
+    };
+
     private BitmapFont font;
 
     private boolean failed;
@@ -56,6 +95,11 @@ public class ConnectScene implements GameScene, InputProcessor {
      */
     private Stage stage;
 
+    /**
+     * The mouse position in screen layout coordinates
+     */
+    private Vector2 pointer = new Vector2();
+
     /**
      * The username textfield
      */
@@ -69,7 +113,7 @@ public class ConnectScene implements GameScene, InputProcessor {
     /**
      * Username textfield texture
      */
-    private Texture nameTexture;
+    private TextureRegion nameTexture;
 
     private SelectBox<ShipTypeLabel> shipType;
     private SelectBox<TeamTypeLabel> teamType;
@@ -77,20 +121,20 @@ public class ConnectScene implements GameScene, InputProcessor {
     /**
      * The address textfield texture
      */
-    private Texture addressTexture;
+    private TextureRegion addressTexture;
 
     /**
      * The login button texture
      */
-    private Texture loginButton;
+    private TextureRegion loginButton;
 
-    private Texture loginButtonHover;
+    private TextureRegion loginButtonHover;
 
-    private Texture shipBox;
-    private Texture junk;
-    private Texture wf;
-    private Texture xebec;
-    private Texture wb;
+    private TextureRegion shipBox;
+    private TextureRegion junk;
+    private TextureRegion wf;
+    private TextureRegion xebec;
+    private TextureRegion wb;
 
     /**
      * If a popup is open
@@ -115,32 +159,28 @@ public class ConnectScene implements GameScene, InputProcessor {
 
     @Override
     public void create() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("core/assets/font/FjallaOne-Regular.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 18;
-        parameter.shadowColor = new Color(0, 0, 0, 0.8f);
-        parameter.shadowOffsetY = 1;
-        font = generator.generateFont(parameter);
+        font = context.getAssets().getFont(GameFont.CONNECT);
         font.setColor(Color.YELLOW);
         batch = new SpriteBatch();
 
-        background = new Texture("core/assets/bg.png");
-        nameTexture = new Texture("core/assets/skin/textfield-name.png");
-        addressTexture = new Texture("core/assets/skin/textfield-address.png");
-        loginButton = new Texture("core/assets/skin/login.png");
-        loginButtonHover = new Texture("core/assets/skin/login-hover.png");
+        background = context.getAssets().getTexture(BACKGROUND);
+        TextureCollection textures = context.getTextures();
+        nameTexture = textures.getUi("skin/textfield-name");
+        addressTexture = textures.getUi("skin/textfield-address");
+        loginButton = textures.getUi("skin/login");
+        loginButtonHover = textures.getUi("skin/login-hover");
 
         renderer = new ShapeRenderer();
 
-        stage = new Stage(new FitViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight()));
+        stage = new Stage(new FitViewport(WIDTH, HEIGHT));
 
         setup();
 
         TextField.TextFieldStyle style = new TextField.TextFieldStyle();
         style.font = font;
         style.fontColor = new Color(0.16f, 0.16f, 0.16f, 1);
-        style.cursor = new Image(new Texture("core/assets/skin/textfield-cursor.png")).getDrawable();
-        style.selection = new Image(new Texture("core/assets/skin/textfield-selection.png")).getDrawable();
+        style.cursor = new TextureRegionDrawable(textures.getUi("skin/textfield-cursor"));
+        style.selection = new TextureRegionDrawable(textures.getUi("skin/textfield-selection"));
 
         name = new TextField("", style);
         name.setSize(160, 49);
@@ -151,31 +191,31 @@ public class ConnectScene implements GameScene, InputProcessor {
         address.setPosition(370, 225);
 
         SelectBox.SelectBoxStyle selectBoxStyle = new SelectBox.SelectBoxStyle();
-        selectBoxStyle.background = new Image(new Texture("core/assets/skin/selectbg.png")).getDrawable();
+        selectBoxStyle.background = new TextureRegionDrawable(textures.getUi("skin/selectbg"));
         selectBoxStyle.font = font;
         selectBoxStyle.fontColor = new Color(1,1,1, 1);
         selectBoxStyle.listStyle = new List.ListStyle();
-        selectBoxStyle.listStyle.selection = new Image(new Texture("core/assets/skin/selectbg.png")).getDrawable();
+        selectBoxStyle.listStyle.selection = new TextureRegionDrawable(textures.getUi("skin/selectbg"));
         selectBoxStyle.listStyle.selection.setLeftWidth(5);
         selectBoxStyle.listStyle.font = font;
-        selectBoxStyle.listStyle.background = new Image(new Texture("core/assets/skin/select-list-bg.png")).getDrawable();
+        selectBoxStyle.listStyle.background = new TextureRegionDrawable(textures.getUi("skin/select-list-bg"));
         selectBoxStyle.scrollStyle = new ScrollPane.ScrollPaneStyle();
         selectBoxStyle.background.setLeftWidth(10);
 
 
         shipType = new SelectBox<>(selectBoxStyle);
         shipType.setSize(150, 44);
-        shipType.setPosition(Gdx.graphics.getWidth() - 160, Gdx.graphics.getHeight() - 50);
+        shipType.setPosition(WIDTH - 160, HEIGHT - 50);
 
         teamType = new SelectBox<>(selectBoxStyle);
         teamType.setSize(150, 44);
-        teamType.setPosition(Gdx.graphics.getWidth() - 160, Gdx.graphics.getHeight() - 100);
+        teamType.setPosition(WIDTH - 160, HEIGHT - 100);
 
-        shipBox = new Texture("core/assets/skin/ship-box.png");
-        junk = new Texture("core/assets/skin/ships/junk.png");
-        wb = new Texture("core/assets/skin/ships/wb.png");
-        xebec = new Texture("core/assets/skin/ships/xebec.png");
-        wf = new Texture("core/assets/skin/ships/wf.png");
+        shipBox = textures.getUi("skin/ship-box");
+        junk = textures.getUi("skin/ships/junk");
+        wb = textures.getUi("skin/ships/wb");
+        xebec = textures.getUi("skin/ships/xebec");
+        wf = textures.getUi("skin/ships/wf");
 
         Label.LabelStyle labelStyle = new Label.LabelStyle();
         labelStyle.font = font;
@@ -209,7 +249,9 @@ public class ConnectScene implements GameScene, InputProcessor {
 
     @Override
     public void render() {
-        Gdx.gl.glViewport(0,0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        stage.getViewport().apply();
+        batch.setProjectionMatrix(stage.getCamera().combined);
+        renderer.setProjectionMatrix(stage.getCamera().combined);
         batch.begin();
         batch.draw(background, 0, 0);
 
@@ -230,19 +272,19 @@ public class ConnectScene implements GameScene, InputProcessor {
 
             font.draw(batch, "Connect", 340, 196);
 
-            batch.draw(shipBox, Gdx.graphics.getWidth() - 230, Gdx.graphics.getHeight() - 50);
+            batch.draw(shipBox, WIDTH - 230, HEIGHT - 50);
             switch (shipType.getSelected().getType()) {
 	            case ShipTypeLabel.JUNK:
-	                batch.draw(junk, Gdx.graphics.getWidth() - 223, Gdx.graphics.getHeight() - 50);
+	                batch.draw(junk, WIDTH - 223, HEIGHT - 50);
 	                break;
                 case ShipTypeLabel.WB:
-                    batch.draw(wb, Gdx.graphics.getWidth() - 223, Gdx.graphics.getHeight() - 50);
+                    batch.draw(wb, WIDTH - 223, HEIGHT - 50);
                     break;
                 case ShipTypeLabel.XEBEC:
-                    batch.draw(xebec, Gdx.graphics.getWidth() - 223, Gdx.graphics.getHeight() - 50);
+                    batch.draw(xebec, WIDTH - 223, HEIGHT - 50);
                     break;
                 case ShipTypeLabel.WF:
-                    batch.draw(wf, Gdx.graphics.getWidth() - 223, Gdx.graphics.getHeight() - 50);
+                    batch.draw(wf, WIDTH - 223, HEIGHT - 50);
                     break;
             }
             batch.end();
@@ -254,13 +296,13 @@ public class ConnectScene implements GameScene, InputProcessor {
                 Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
                 renderer.begin(ShapeRenderer.ShapeType.Filled);
                 renderer.setColor(new Color(0f, 0f, 0f, 0.9f));
-                renderer.rect(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+                renderer.rect(0, 0, WIDTH, HEIGHT);
 
                 GlyphLayout layout = new GlyphLayout(font, popupMessage);
 
 
-                int x = Gdx.graphics.getWidth() / 2 - 200;
-                int y = Gdx.graphics.getHeight() / 2 - 50;
+                int x = WIDTH / 2 - 200;
+                int y = HEIGHT / 2 - 50;
                 int width = 400;
                 int height = 50;
 
@@ -313,22 +355,26 @@ public class ConnectScene implements GameScene, InputProcessor {
                 }
 
                 GlyphLayout layout = new GlyphLayout(font, text);
-                font.draw(batch, text + dot, Gdx.graphics.getWidth() / 2 - (layout.width / 2), 300);
+                font.draw(batch, text + dot, WIDTH / 2 - (layout.width / 2), 300);
 
-            if (System.currentTimeMillis() - lastConnectionAnimatinoStateChange >= 200) {
+            if (System.currentTimeMillis() - lastConnectionAnimatinoStateChange >= CONNECT_ANIMATION_MILLIS) {
                 connectAnimationState++;
                 lastConnectionAnimatinoStateChange = System.currentTimeMillis();
             }
             if(connectAnimationState > 2) {
                 connectAnimationState = 0;
             }
+            if (!connectAnimationFrame.isScheduled()) {
+                Timer.schedule(connectAnimationFrame, CONNECT_ANIMATION_MILLIS / 1000f);
+            }
             batch.end();
         }
 
 
         batch.begin();
             font.setColor(Color.YELLOW);
-            font.draw(batch, Constants.name, 15, Gdx.graphics.getHeight() - 20);
+            font.draw(batch, Constants.name, 15, HEIGHT - 20);
+            drawLoading();
             batch.end();
 
     }
@@ -352,6 +398,11 @@ public class ConnectScene implements GameScene, InputProcessor {
 
     }
 
+    @Override
+    public void resize(int width, int height) {
+        stage.getViewport().update(width, height, true);
+    }
+
     @Override
     public boolean handleDrag(float screenX, float screenY, float diffX, float diffY) {
         return false;
@@ -367,6 +418,11 @@ public class ConnectScene implements GameScene, InputProcessor {
         return false;
     }
 
+    @Override
+    public boolean handleScroll(float x, float y, int amount) {
+        return false;
+    }
+
     @Override
     public boolean handleClickRelease(float x, float y, int button) {
         return false;
@@ -378,6 +434,7 @@ public class ConnectScene implements GameScene, InputProcessor {
 
     @Override
     public boolean keyDown(int keycode) {
+        Gdx.graphics.requestRendering();
         if (keycode == Input.Keys.ENTER || keycode == Input.Keys.CENTER) {
             if (!popup) {
                 if (stage.getKeyboardFocus() != name && name.getText().isEmpty()) {
@@ -406,16 +463,19 @@ public class ConnectScene implements GameScene, InputProcessor {
 
     @Override
     public boolean keyTyped(char character) {
+        Gdx.graphics.requestRendering();
         return false;
     }
 
     @Override
     public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        Gdx.graphics.requestRendering();
         return false;
     }
 
     @Override
     public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        Gdx.graphics.requestRendering();
         if (popup && popupCloseHover) {
             closePopup();
         }
@@ -450,27 +510,53 @@ public class ConnectScene implements GameScene, InputProcessor {
 
     @Override
     public boolean touchDragged(int screenX, int screenY, int pointer) {
+        Gdx.graphics.requestRendering();
         return false;
     }
 
     @Override
     public boolean mouseMoved(int screenX, int screenY) {
+        Gdx.graphics.requestRendering();
+        // the hit areas are measured from the top of the screen layout
+        pointer.set(screenX, screenY);
+        stage.getViewport().unproject(pointer);
+        float x = pointer.x;
+        float y = HEIGHT - pointer.y;
         if (popup) {
             loginHover = false;
            // 505 398
-            popupCloseHover = screenX >= 505 && screenX <= 573 && screenY >= 349 && screenY <= 398;
+            popupCloseHover = x >= 505 && x <= 573 && y >= 349 && y <= 398;
         }
         else {
-            loginHover = screenX >= 164 && screenY <= 606 && screenY >= 490 && screenY <= 530;
+            loginHover = x >= 164 && y <= 606 && y >= 490 && y <= 530;
         }
         return false;
     }
 
     @Override
     public boolean scrolled(int amount) {
+        Gdx.graphics.requestRendering();
         return false;
     }
 
+    /**
+     * Draws the progress of the assets loading behind the connect screen, until all are loaded
+     */
+    private void drawLoading() {
+        float progress = context.getAssets().getProgress();
+        if (progress >= 1) {
+            return;
+        }
+        TextureRegion pixel = context.getTextures().getWhitePixel();
+        int width = WIDTH - LOADING_X * 2;
+        batch.setColor(LOADING_BACKGROUND_COLOR);
+        batch.draw(pixel, LOADING_X, LOADING_Y, width, LOADING_HEIGHT);
+        batch.setColor(Color.YELLOW);
+        batch.draw(pixel, LOADING_X, LOADING_Y, width * progress, LOADING_HEIGHT);
+        batch.setColor(Color.WHITE);
+        font.draw(batch, "Loading " + (int) (progress * 100) + "%", LOADING_X, LOADING_Y + LOADING_HEIGHT + 25);
+    }
+
     public void loginFailed() {
         loggingIn = false;
         setPopup("Could not connect to server.");
@@ -1,25 +1,47 @@
 package com.benberi.cadesim.game.scene.impl.control;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 import com.benberi.cadesim.Constants;
 import com.benberi.cadesim.GameContext;
 import com.benberi.cadesim.game.entity.vessel.move.MoveType;
+import com.benberi.cadesim.game.scene.GameFont;
 import com.benberi.cadesim.game.scene.SceneComponent;
+import com.benberi.cadesim.game.scene.TextureCollection;
 import com.benberi.cadesim.game.scene.impl.control.hand.HandMove;
 import com.benberi.cadesim.game.scene.impl.control.hand.impl.BigShipHandMove;
 import com.benberi.cadesim.game.scene.impl.control.hand.impl.SmallShipHandMove;
 
 public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
 
+    /**
+     * Screen bounds of the damage and bilge gauges
+     */
+    private static final int STATUS_X = 282;
+    private static final int STATUS_Y = 127;
+    private static final int STATUS_WIDTH = 44;
+    private static final int STATUS_HEIGHT = 38;
+
+    private static final Color DAMAGE_COLOR = new Color(131 / 255f, 6 / 255f, 0f, .7f);
+    private static final Color BILGE_COLOR = new Color(0f, 207 / 255f, 249f, .7f);
+
+    /**
+     * The "xN" labels of the move and cannon counts, built once
+     */
+    private static final String[] COUNT_LABELS = new String[100];
+
+    static {
+        for (int i = 0; i < COUNT_LABELS.length; i++) {
+            COUNT_LABELS[i] = "x" + i;
+        }
+    }
+
     /**
      * Left moves
      */
@@ -51,9 +73,16 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
     private SpriteBatch batch;
 
     /**
-     * Shape renderer for shapes, used for damage/bilge and such
+     * The damage and bilge gauges, redrawn only when the damage or bilge changes
      */
-    private ShapeRenderer shape;
+    private Pixmap statusPixmap;
+    private Texture statusTexture;
+
+    /**
+     * The damage and bilge the gauges were last drawn for
+     */
+    private float statusDamage = -1;
+    private float statusBilge = -1;
 
     /**
      * Font for texts
@@ -88,9 +117,9 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
     /**
      * Textures
      */
-    private Texture shiphand;
-    private Texture moves;
-    private Texture emptyMoves;
+    private TextureRegion shiphand;
+    private TextureRegion moves;
+    private TextureRegion emptyMoves;
     private TextureRegion leftMoveTexture;
     private TextureRegion rightMoveTexture;
     private TextureRegion forwardMoveTexture;
@@ -98,39 +127,39 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
     private TextureRegion emptyLeftMoveTexture;
     private TextureRegion emptyRightMoveTexture;
     private TextureRegion emptyForwardMoveTexture;
-    private Texture sandTopTexture;
-    private Texture sandBottomTexture;
+    private TextureRegion sandTopTexture;
+    private TextureRegion sandBottomTexture;
     private TextureRegion sandBottom;
     private TextureRegion sandTop;
 
     private TextureRegion emptyCannon;
     private TextureRegion cannon;
 
-    private Texture sandTrickleTexture;
+    private TextureRegion sandTrickleTexture;
     private TextureRegion sandTrickle;
 
-    private Texture hourGlass;
-    private Texture cannonSlots;
+    private TextureRegion hourGlass;
+    private TextureRegion cannonSlots;
     private TextureRegion cannonLeft;
     private TextureRegion cannonRight;
     private TextureRegion emptyCannonLeft;
     private TextureRegion emptyCannonRight;
-    private Texture controlBackground;
-    private Texture shipStatus;
-    private Texture shipStatusBg;
+    private TextureRegion controlBackground;
+    private TextureRegion shipStatus;
+    private TextureRegion shipStatusBg;
     private TextureRegion damage;
     private TextureRegion bilge;
-    private Texture moveGetTargetTexture;
+    private TextureRegion moveGetTargetTexture;
     private TextureRegion moveTargetSelAuto;
     private TextureRegion moveTargetSelForce;
-    private Texture title;
-    private Texture radioOn;
-    private Texture radioOff;
-    private Texture autoOn;
-    private Texture autoOff;
+    private TextureRegion title;
+    private TextureRegion radioOn;
+    private TextureRegion radioOff;
+    private TextureRegion autoOn;
+    private TextureRegion autoOff;
 
-    private Texture cannonSelection;
-    private Texture cannonSelectionEmpty;
+    private TextureRegion cannonSelection;
+    private TextureRegion cannonSelectionEmpty;
 
     private int manuaverSlot = 3;
 
@@ -140,15 +169,22 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
     private Vector2 draggingPosition;
     private boolean executionMoves;
 
-    protected BattleControlComponent(GameContext context, ControlAreaScene owner, boolean big) {
+    protected BattleControlComponent(GameContext context, ControlAreaScene owner) {
         super(context, owner);
+        setBigShip(true);
+    }
+
+    /**
+     * Sets up the move holders for a big or a small ship, when a session starts
+     */
+    public void setBigShip(boolean big) {
         if (big) {
             movesHolder = new BigShipHandMove[4];
-            isBigShip = true;
         }
         else {
             movesHolder = new SmallShipHandMove[4];
         }
+        isBigShip = big;
 
         for (int i = 0; i < movesHolder.length; i++) {
             movesHolder[i] = createMove();
@@ -158,50 +194,46 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
     @Override
     public void create() {
         batch = new SpriteBatch();
-        shape = new ShapeRenderer();
-
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("core/assets/font/Roboto-Regular.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 14;
-        font = generator.generateFont(parameter);
-
-        title = new Texture("core/assets/ui/title.png");
-        radioOn = new Texture("core/assets/ui/radio-on.png");
-        radioOff = new Texture("core/assets/ui/radio-off.png");
-        autoOn = new Texture("core/assets/ui/auto-on.png");
-        autoOff = new Texture("core/assets/ui/auto-off.png");
-
-        sandTopTexture = new Texture("core/assets/ui/sand_top.png");
-        sandBottomTexture = new Texture("core/assets/ui/sand_bot.png");
-
-        sandTrickleTexture = new Texture("core/assets/ui/sand_trickle.png");
-        sandTrickle = new TextureRegion(sandTrickleTexture, 0, 0, 1, sandTopTexture.getHeight());
-
-        sandTop = new TextureRegion(sandTopTexture, sandTopTexture.getWidth(), sandTopTexture.getHeight());
-        sandBottom= new TextureRegion(sandBottomTexture, sandBottomTexture.getWidth(), sandBottomTexture.getHeight());
-
-        cannonSlots = new Texture("core/assets/ui/cannonslots.png");
-        moves = new Texture("core/assets/ui/move.png");
-        emptyMoves = new Texture("core/assets/ui/move_empty.png");
-        shiphand = new Texture("core/assets/ui/shiphand.png");
-        hourGlass = new Texture("core/assets/ui/hourglass.png");
-        controlBackground = new Texture("core/assets/ui/moves-background.png");
-        shipStatus = new Texture("core/assets/ui/status.png");
-        shipStatusBg = new Texture("core/assets/ui/status-bg.png");
-        moveGetTargetTexture = new Texture("core/assets/ui/sel_border_square.png");
-        cannonSelectionEmpty = new Texture("core/assets/ui/grapplecannon_empty.png");
-        cannonSelection = new Texture("core/assets/ui/grapplecannon.png");
-        damage = new TextureRegion(new Texture("core/assets/ui/damage.png"));
-        bilge = new TextureRegion(new Texture("core/assets/ui/bilge.png"));
+        statusPixmap = new Pixmap(STATUS_WIDTH, STATUS_HEIGHT, Pixmap.Format.RGBA8888);
+        statusTexture = new Texture(statusPixmap);
+
+        font = getContext().getAssets().getFont(GameFont.CONTROL);
+
+        TextureCollection textures = getContext().getTextures();
+        title = textures.getUi("ui/title");
+        radioOn = textures.getUi("ui/radio-on");
+        radioOff = textures.getUi("ui/radio-off");
+        autoOn = textures.getUi("ui/auto-on");
+        autoOff = textures.getUi("ui/auto-off");
+
+        sandTopTexture = textures.getUi("ui/sand_top");
+        sandBottomTexture = textures.getUi("ui/sand_bot");
+
+        sandTrickleTexture = textures.getUi("ui/sand_trickle");
+        sandTrickle = new TextureRegion(sandTrickleTexture, 0, 0, 1, sandTopTexture.getRegionHeight());
+
+        sandTop = new TextureRegion(sandTopTexture);
+        sandBottom = new TextureRegion(sandBottomTexture);
+
+        cannonSlots = textures.getUi("ui/cannonslots");
+        moves = textures.getUi("ui/move");
+        emptyMoves = textures.getUi("ui/move_empty");
+        shiphand = textures.getUi("ui/shiphand");
+        hourGlass = textures.getUi("ui/hourglass");
+        controlBackground = textures.getUi("ui/moves-background");
+        shipStatus = textures.getUi("ui/status");
+        shipStatusBg = textures.getUi("ui/status-bg");
+        moveGetTargetTexture = textures.getUi("ui/sel_border_square");
+        cannonSelectionEmpty = textures.getUi("ui/grapplecannon_empty");
+        cannonSelection = textures.getUi("ui/grapplecannon");
+        damage = new TextureRegion(textures.getUi("ui/damage"));
+        bilge = new TextureRegion(textures.getUi("ui/bilge"));
         damage.flip(false, true);
         bilge.flip(false, true);
 
         emptyCannon = new TextureRegion(cannonSelectionEmpty, 25, 0, 25, 25);
         cannon = new TextureRegion(cannonSelection, 25, 0, 25, 25);
 
-        damage.setRegionWidth(damage.getTexture().getWidth());
-        bilge.setRegionWidth(bilge.getTexture().getWidth());
-
         leftMoveTexture = new TextureRegion(moves, 0, 0, 28, 28);
         forwardMoveTexture = new TextureRegion(moves, 28, 0, 28, 28);
         rightMoveTexture = new TextureRegion(moves, 56, 0, 28, 28);
@@ -239,15 +271,16 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
     @Override
     public void update() {
 
-        double ratio = (double) sandTopTexture.getHeight() / (double) Constants.TURN_TIME;
+        double ratio = (double) sandTopTexture.getRegionHeight() / (double) Constants.TURN_TIME;
 
-        sandTop.setRegionY(sandTopTexture.getHeight() - (int) Math.round(time * ratio));
-        sandTop.setRegionHeight((int) Math.round(time * ratio));
+        // the regions are cut out of the packed sand regions, in their coordinates
+        int top = (int) Math.round(time * ratio);
+        sandTop.setRegion(sandTopTexture, 0, sandTopTexture.getRegionHeight() - top, sandTopTexture.getRegionWidth(), top);
 
-        ratio =  (double) sandBottomTexture.getHeight() / (double) Constants.TURN_TIME;
+        ratio =  (double) sandBottomTexture.getRegionHeight() / (double) Constants.TURN_TIME;
 
-        sandBottom.setRegionY(sandBottomTexture.getHeight() - (int) Math.round((Constants.TURN_TIME - time) * ratio));
-        sandBottom.setRegionHeight((int) Math.round((Constants.TURN_TIME - time) * ratio));
+        int bottom = (int) Math.round((Constants.TURN_TIME - time) * ratio);
+        sandBottom.setRegion(sandBottomTexture, 0, sandBottomTexture.getRegionHeight() - bottom, sandBottomTexture.getRegionWidth(), bottom);
     }
 
     @Override
@@ -263,6 +296,11 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
         manuaverSlot = 3;
     }
 
+    @Override
+    public void resize(int width, int height) {
+        batch.setProjectionMatrix(getScene().getViewport().getCamera().combined);
+    }
+
 
     @Override
     public boolean handleClick(float x, float y, int button) {
@@ -270,44 +308,44 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
            // return false;
         }
         if (isPlacingMoves(x, y)) {
-            if (y >= 538 && y <= 569) {
+            if (y >= 131 && y <= 162) {
                 handleMovePlace(0, button);
             }
-            else if (y >= 573 && y <= 603) {
+            else if (y >= 97 && y <= 127) {
                 handleMovePlace(1, button);
             }
-            else if (y >= 606 && y <= 637) {
+            else if (y >= 63 && y <= 94) {
                 handleMovePlace(2, button);
             }
-            else if(y >= 642 && y <= 670) {
+            else if(y >= 30 && y <= 58) {
                 handleMovePlace(3, button);
             }
         }
         else if (isPlacingLeftCannons(x, y)) {
-            if (y >= 548 && y <= 562) {
+            if (y >= 138 && y <= 152) {
                 getContext().sendAddCannon(0, 0);
             }
-            else if (y >= 582 && y <= 597) {
+            else if (y >= 103 && y <= 118) {
                 getContext().sendAddCannon(0, 1);
             }
-            else if (y >= 618 && y <= 630) {
+            else if (y >= 70 && y <= 82) {
                 getContext().sendAddCannon(0, 2);
             }
-            else if (y >= 650 && y <= 665) {
+            else if (y >= 35 && y <= 50) {
                 getContext().sendAddCannon(0, 3);
             }
         }
         else if (isPlacingRightCannons(x, y)) {
-            if (y >= 548 && y <= 562) {
+            if (y >= 138 && y <= 152) {
                 getContext().sendAddCannon(1, 0);
             }
-            else if (y >= 582 && y <= 597) {
+            else if (y >= 103 && y <= 118) {
                 getContext().sendAddCannon(1, 1);
             }
-            else if (y >= 618 && y <= 630) {
+            else if (y >= 70 && y <= 82) {
                 getContext().sendAddCannon(1, 2);
             }
-            else if (y >= 650 && y <= 665) {
+            else if (y >= 35 && y <= 50) {
                 getContext().sendAddCannon(1, 3);
             }
         }
@@ -343,7 +381,7 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
     }
 
     private boolean isTogglingAuto(float x, float y) {
-        return x >= 52 && x <= 68 && y >= 579 && y <= 591;
+        return x >= 52 && x <= 68 && y >= 109 && y <= 121;
     }
 
     private boolean isPlacingLeftCannons(float x, float y) {
@@ -355,16 +393,16 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
     }
 
     private int getSlotForPosition(float x, float y) {
-        if (y >= 538 && y <= 569) {
+        if (y >= 131 && y <= 162) {
             return 0;
         }
-        else if (y >= 573 && y <= 603) {
+        else if (y >= 97 && y <= 127) {
            return 1;
         }
-        else if (y >= 606 && y <= 637) {
+        else if (y >= 63 && y <= 94) {
             return 2;
         }
-        else if(y >= 642 && y <= 670) {
+        else if(y >= 30 && y <= 58) {
            return 3;
         }
         return -1;
@@ -511,14 +549,13 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
      */
     public void setTime(int time) {
         this.time = time;
-        int sandX = sandTrickle.getRegionX();
+        int sandX = sandTrickle.getRegionX() - sandTrickleTexture.getRegionX();
         sandX++;
-        if (sandX > sandTrickleTexture.getWidth()) {
+        if (sandX > sandTrickleTexture.getRegionWidth()) {
             sandX = 0;
         }
 
-        sandTrickle.setRegionX(sandX);
-        sandTrickle.setRegionWidth(1);
+        sandTrickle.setRegion(sandTrickleTexture, sandX, 0, 1, sandTopTexture.getRegionHeight());
     }
 
     /**
@@ -571,7 +608,7 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
         batch.begin();
 
         // The yellow BG
-        batch.draw(controlBackground, 5, 8, controlBackground.getWidth(), controlBackground.getHeight() + 5);
+        batch.draw(controlBackground, 5, 8, controlBackground.getRegionWidth(), controlBackground.getRegionHeight() + 5);
 
         drawMoveHolder();
         drawShipStatus();
@@ -579,7 +616,7 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
         drawMovesSelect();
         batch.draw(title, 65, 140);
         if (isDragging) {
-            batch.draw(manuaverTexture, draggingPosition.x - manuaverTexture.getRegionWidth() / 2, Gdx.graphics.getHeight() - draggingPosition.y - manuaverTexture.getRegionHeight() / 2);
+            batch.draw(manuaverTexture, draggingPosition.x - manuaverTexture.getRegionWidth() / 2, draggingPosition.y - manuaverTexture.getRegionHeight() / 2);
         }
         batch.end();
     }
@@ -587,38 +624,38 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
     private void drawMoveHolder() {
 
         // The hand bg
-        batch.draw(shiphand, controlBackground.getWidth() - shiphand.getWidth() - 80, 19);
+        batch.draw(shiphand, controlBackground.getRegionWidth() - shiphand.getRegionWidth() - 80, 19);
 
 
-        int height = controlBackground.getHeight() - 40;
+        int height = controlBackground.getRegionHeight() - 40;
         for (int i = 0; i < movesHolder.length; i++) {
             HandMove move = movesHolder[i];
 
             boolean[] left = move.getLeft();
             boolean[] right = move.getRight();
 
-            batch.draw(emptyCannonLeft, controlBackground.getWidth() - shiphand.getWidth() - 81, height); // left
+            batch.draw(emptyCannonLeft, controlBackground.getRegionWidth() - shiphand.getRegionWidth() - 81, height); // left
             if (left[0]) {
-                batch.draw(cannonLeft, controlBackground.getWidth() - shiphand.getWidth() - 81, height); // left
+                batch.draw(cannonLeft, controlBackground.getRegionWidth() - shiphand.getRegionWidth() - 81, height); // left
             }
-            batch.draw(emptyCannonRight, controlBackground.getWidth() - shiphand.getWidth() - 35, height); // right
+            batch.draw(emptyCannonRight, controlBackground.getRegionWidth() - shiphand.getRegionWidth() - 35, height); // right
             if (right[0]) {
-                batch.draw(cannonRight, controlBackground.getWidth() - shiphand.getWidth() - 35, height); // left
+                batch.draw(cannonRight, controlBackground.getRegionWidth() - shiphand.getRegionWidth() - 35, height); // left
             }
 
             if (movesHolder instanceof BigShipHandMove[]) {
-                batch.draw(emptyCannonLeft, controlBackground.getWidth() - shiphand.getWidth() - 96, height); // left
+                batch.draw(emptyCannonLeft, controlBackground.getRegionWidth() - shiphand.getRegionWidth() - 96, height); // left
                 if (left[0] && left[1]) {
-                    batch.draw(cannonLeft, controlBackground.getWidth() - shiphand.getWidth() - 96, height); // left
+                    batch.draw(cannonLeft, controlBackground.getRegionWidth() - shiphand.getRegionWidth() - 96, height); // left
                 }
-                batch.draw(emptyCannonRight, controlBackground.getWidth() - shiphand.getWidth() - 20, height); // right
+                batch.draw(emptyCannonRight, controlBackground.getRegionWidth() - shiphand.getRegionWidth() - 20, height); // right
                 if (right[0] && right[1]) {
-                    batch.draw(cannonRight, controlBackground.getWidth() - shiphand.getWidth() - 20, height); // right
+                    batch.draw(cannonRight, controlBackground.getRegionWidth() - shiphand.getRegionWidth() - 20, height); // right
                 }
             }
 
             if (i == manuaverSlot) {
-                batch.draw(manuaverTexture, controlBackground.getWidth() - shiphand.getWidth() - 64, height - 4);
+                batch.draw(manuaverTexture, controlBackground.getRegionWidth() - shiphand.getRegionWidth() - 64, height - 4);
             }
             else {
                 if (move.getMove() != MoveType.NONE) {
@@ -630,7 +667,7 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
                         batch.setColor(color.r, color.g, color.b, 1f);
                     }
 
-                    batch.draw(getTextureForMove(move.getMove()), controlBackground.getWidth() - shiphand.getWidth() - 64, height - 4);
+                    batch.draw(getTextureForMove(move.getMove()), controlBackground.getRegionWidth() - shiphand.getRegionWidth() - 64, height - 4);
                     batch.setColor(color.r, color.g, color.b, 1f);
                 }
             }
@@ -656,25 +693,25 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
      */
     private void drawMovesSelect() {
 
-        font.draw(batch, "Auto", 18, controlBackground.getHeight() - 54);
+        font.draw(batch, "Auto", 18, controlBackground.getRegionHeight() - 54);
         if (auto) {
-            batch.draw(autoOn, 53, controlBackground.getHeight() - 70);
+            batch.draw(autoOn, 53, controlBackground.getRegionHeight() - 70);
         }
         else {
-            batch.draw(autoOff, 53, controlBackground.getHeight() - 70);
+            batch.draw(autoOff, 53, controlBackground.getRegionHeight() - 70);
         }
 
         if (cannons > 0) {
-            batch.draw(cannon, 49, controlBackground.getHeight() - 103);
+            batch.draw(cannon, 49, controlBackground.getRegionHeight() - 103);
         }
         else {
-            batch.draw(emptyCannon, 49, controlBackground.getHeight() - 103);
+            batch.draw(emptyCannon, 49, controlBackground.getRegionHeight() - 103);
         }
 
-        font.draw(batch, "x" + Integer.toString(cannons), 56, controlBackground.getHeight() - 109);
+        font.draw(batch, getCountLabel(cannons), 56, controlBackground.getRegionHeight() - 109);
 
         int x = 80;
-        int y = controlBackground.getHeight() - 100;
+        int y = controlBackground.getRegionHeight() - 100;
 
         if (leftMoves == 0) {
             batch.draw(emptyLeftMoveTexture, x, y);
@@ -719,19 +756,26 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
 
 
         font.setColor(Color.BLACK);
-        font.draw(batch, "x" + Integer.toString(leftMoves), x + 5, y - 5);
-        font.draw(batch, "x" + Integer.toString(forwardMoves), x + emptyLeftMoveTexture.getRegionWidth() + 2 + 5, y - 5);
-        font.draw(batch, "x" + Integer.toString(rightMoves), x + (emptyLeftMoveTexture.getRegionWidth() * 2) + 4 + 5, y - 5);
+        font.draw(batch, getCountLabel(leftMoves), x + 5, y - 5);
+        font.draw(batch, getCountLabel(forwardMoves), x + emptyLeftMoveTexture.getRegionWidth() + 2 + 5, y - 5);
+        font.draw(batch, getCountLabel(rightMoves), x + (emptyLeftMoveTexture.getRegionWidth() * 2) + 4 + 5, y - 5);
+    }
+
+    private static String getCountLabel(int count) {
+        if (count >= 0 && count < COUNT_LABELS.length) {
+            return COUNT_LABELS[count];
+        }
+        return "x" + count;
     }
 
     /**
      * Draws the sand clock
      */
     private void drawTimer() {
-        batch.draw(hourGlass, controlBackground.getWidth() - hourGlass.getWidth() - 20, 25);
-        batch.draw(sandTrickle,controlBackground.getWidth() - hourGlass.getWidth() - 7, 30 );
-        batch.draw(sandTop, controlBackground.getWidth() - hourGlass.getWidth() - 16, 72);
-        batch.draw(sandBottom, controlBackground.getWidth() - hourGlass.getWidth() - 16, 28);
+        batch.draw(hourGlass, controlBackground.getRegionWidth() - hourGlass.getRegionWidth() - 20, 25);
+        batch.draw(sandTrickle,controlBackground.getRegionWidth() - hourGlass.getRegionWidth() - 7, 30 );
+        batch.draw(sandTop, controlBackground.getRegionWidth() - hourGlass.getRegionWidth() - 16, 72);
+        batch.draw(sandBottom, controlBackground.getRegionWidth() - hourGlass.getRegionWidth() - 16, 28);
     }
 
     /**
@@ -740,16 +784,27 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
      * Ship damage, Ship bilge, etc
      */
     private void drawShipStatus() {
-        int x = controlBackground.getWidth() - shipStatus.getWidth() - 12;
-        int y = controlBackground.getHeight() - 50;
+        int x = controlBackground.getRegionWidth() - shipStatus.getRegionWidth() - 12;
+        int y = controlBackground.getRegionHeight() - 50;
         batch.draw(shipStatusBg, x, y);
 
-        batch.end();
+        if (damageAmount != statusDamage || bilgeAmount != statusBilge) {
+            updateStatusTexture();
+        }
+        batch.draw(statusTexture, STATUS_X, STATUS_Y);
 
-        shape.begin(ShapeRenderer.ShapeType.Filled);
+        batch.draw(shipStatus, x, y);
+    }
 
-        // The values for damage and water are hard-coded here, they
-        // should come from your code
+
+    /**
+     * Redraws the damage and bilge gauges into their texture
+     */
+    private void updateStatusTexture() {
+        statusPixmap.setBlending(Pixmap.Blending.None);
+        statusPixmap.setColor(0, 0, 0, 0);
+        statusPixmap.fill();
+        statusPixmap.setBlending(Pixmap.Blending.SourceOver);
 
         float redstuff = damageAmount / 100f;
         float redStart = 90.0f + 180.0f * (1.0f - redstuff);
@@ -760,28 +815,45 @@ public class BattleControlComponent extends SceneComponent<ControlAreaScene> {
         float blueStart = 270.0f;
         float blueLength = 180.0f * bluestuff;
 
-        shape.setColor(new Color(131 / 255f, 6 / 255f, 0f, .7f));
-        shape.arc(301, 146, 16.5f, redStart, redLength);
-        shape.setColor(new Color(0f, 207 / 255f, 249f, .7f));
-        shape.arc(304, 146, 16.5f, blueStart, blueLength);
-        shape.end();
-
-        batch.begin();
+        statusPixmap.setColor(DAMAGE_COLOR);
+        fillArc(301, 146, 16.5f, redStart, redLength);
+        statusPixmap.setColor(BILGE_COLOR);
+        fillArc(304, 146, 16.5f, blueStart, blueLength);
 
-        batch.draw(shipStatus, x, y);
+        statusTexture.draw(statusPixmap, 0, 0);
+        statusDamage = damageAmount;
+        statusBilge = bilgeAmount;
     }
 
+    /**
+     * Fills a circle sector of the gauges, in screen coordinates
+     */
+    private void fillArc(float x, float y, float radius, float start, float degrees) {
+        if (degrees <= 0) {
+            return;
+        }
+        int segments = Math.max(1, (int) Math.ceil(degrees / 6));
+        int centerX = Math.round(x - STATUS_X);
+        int centerY = Math.round(STATUS_Y + STATUS_HEIGHT - y);
+        for (int i = 0; i < segments; i++) {
+            double from = Math.toRadians(start + degrees * i / segments);
+            double to = Math.toRadians(start + degrees * (i + 1) / segments);
+            statusPixmap.fillTriangle(centerX, centerY,
+                    (int) Math.round(centerX + radius * Math.cos(from)), (int) Math.round(centerY - radius * Math.sin(from)),
+                    (int) Math.round(centerX + radius * Math.cos(to)), (int) Math.round(centerY - radius * Math.sin(to)));
+        }
+    }
 
     public boolean isChosedLeft(float x, float y) {
-        return x >= 80 && x <= 107 && y >= 598 && y <= 624;
+        return x >= 80 && x <= 107 && y >= 76 && y <= 102;
     }
 
     public boolean isChosedForward(float x, float y) {
-        return x >= 110 && x <= 135 && y >= 598 && y <= 624;
+        return x >= 110 && x <= 135 && y >= 76 && y <= 102;
     }
 
     public boolean isChosedRight(float x, float y) {
-        return x >= 140 && x <= 166 && y >= 598 && y <= 624;
+        return x >= 140 && x <= 166 && y >= 76 && y <= 102;
     }
 
     public void placeMove(int slot, MoveType move, boolean temp) {
@@ -3,20 +3,39 @@ package com.benberi.cadesim.game.scene.impl.control;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.benberi.cadesim.Constants;
 import com.benberi.cadesim.GameContext;
 import com.benberi.cadesim.game.scene.GameScene;
 
 public class ControlAreaScene implements GameScene {
 
+    private static final Color BACKGROUND_COLOR = new Color(65 / 255f, 101 / 255f, 139 / 255f, 1);
+    private static final Color BORDER_DARK_COLOR = new Color(72 / 255f, 72 / 255f, 72 / 255f, 1);
+    private static final Color BORDER_LIGHT_COLOR = new Color(135 / 255f, 161 / 255f, 188 / 255f, 1);
+    private static final Color BORDER_COLOR = new Color(68 / 255f, 101 / 255f, 136 / 255f, 1);
+
+    /**
+     * The ship type with the moves of a small ship
+     */
+    private static final int SMALL_SHIP = 5;
+
     private GameContext context;
-    
-    public static int shipId = 0;
-    
-    private boolean bigShip = true;
 
     private BattleControlComponent control;
     private ShapeRenderer shapeRenderer;
 
+    /**
+     * The control area at the bottom of the window, in pixels from its bottom left corner
+     */
+    private ScreenViewport viewport = new ScreenViewport();
+
+    /**
+     * The unprojected mouse position
+     */
+    private Vector2 mouse = new Vector2();
+
     public ControlAreaScene(GameContext context) {
         this.context = context;
     }
@@ -24,12 +43,10 @@ public class ControlAreaScene implements GameScene {
     @Override
     public void create()
     {
-    	if(shipId == 5) {
-    		bigShip = false;
-    	}
         shapeRenderer = new ShapeRenderer();
-        this.control = new BattleControlComponent(context, this, bigShip);
+        this.control = new BattleControlComponent(context, this);
         control.create();
+        resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
     }
 
     @Override
@@ -39,7 +56,7 @@ public class ControlAreaScene implements GameScene {
 
     @Override
     public void render() {
-        Gdx.gl.glViewport(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        viewport.apply();
         renderBackground();
         control.render();
     }
@@ -49,9 +66,34 @@ public class ControlAreaScene implements GameScene {
         control.dispose();
     }
 
+    @Override
+    public void resize(int width, int height) {
+        viewport.update(width, Constants.CONTROL_AREA_HEIGHT, true);
+        shapeRenderer.setProjectionMatrix(viewport.getCamera().combined);
+        control.resize(width, height);
+    }
+
+    public ScreenViewport getViewport() {
+        return viewport;
+    }
+
+    /**
+     * Unprojects a window position into the control area
+     * @return The position, or <code>null</code> if it is outside the control area
+     */
+    private Vector2 unproject(float x, float y) {
+        viewport.unproject(mouse.set(x, y));
+        if (mouse.y < 0 || mouse.y > viewport.getWorldHeight()) {
+            return null;
+        }
+        return mouse;
+    }
+
     @Override
     public boolean handleDrag(float sx, float sy, float x, float y) {
-        if (control.handleDrag(sx, sy, x, y)) {
+        // a drag leaving the control area is still followed
+        viewport.unproject(mouse.set(sx, sy));
+        if (control.handleDrag(mouse.x, mouse.y, x, y)) {
             return true;
         }
         return false;
@@ -59,7 +101,8 @@ public class ControlAreaScene implements GameScene {
 
     @Override
     public boolean handleClick(float x, float y, int button) {
-        if (control.handleClick(x, y, button)) {
+        Vector2 position = unproject(x, y);
+        if (position != null && control.handleClick(position.x, position.y, button)) {
             return true;
         }
         return false;
@@ -70,9 +113,16 @@ public class ControlAreaScene implements GameScene {
         return false;
     }
 
+    @Override
+    public boolean handleScroll(float x, float y, int amount) {
+        return false;
+    }
+
     @Override
     public boolean handleClickRelease(float x, float y, int button) {
-        if (control.handleRelease(x, y, button)) {
+        // a release outside the control area still ends a drag
+        viewport.unproject(mouse.set(x, y));
+        if (control.handleRelease(mouse.x, mouse.y, button)) {
             return true;
         }
         return false;
@@ -80,20 +130,28 @@ public class ControlAreaScene implements GameScene {
 
     private void renderBackground() {
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(new Color(65 / 255f, 101 / 255f, 139 / 255f, 1));
-        shapeRenderer.rect(0, 0, Gdx.graphics.getWidth(), 200);
+        shapeRenderer.setColor(BACKGROUND_COLOR);
+        shapeRenderer.rect(0, 0, viewport.getWorldWidth(), Constants.CONTROL_AREA_HEIGHT);
 
-        shapeRenderer.setColor(new Color(72 / 255f, 72 / 255f, 72 / 255f, 1));
-        shapeRenderer.rect(0, 199, Gdx.graphics.getWidth(), 1);
+        shapeRenderer.setColor(BORDER_DARK_COLOR);
+        shapeRenderer.rect(0, Constants.CONTROL_AREA_HEIGHT - 1, viewport.getWorldWidth(), 1);
 
-        shapeRenderer.setColor(new Color(135 / 255f, 161 / 255f, 188 / 255f, 1));
-        shapeRenderer.rect(0, 198, Gdx.graphics.getWidth(), 1);
+        shapeRenderer.setColor(BORDER_LIGHT_COLOR);
+        shapeRenderer.rect(0, Constants.CONTROL_AREA_HEIGHT - 2, viewport.getWorldWidth(), 1);
 
-        shapeRenderer.setColor(new Color(68 / 255f, 101 / 255f, 136 / 255f, 1));
-        shapeRenderer.rect(0, 197, Gdx.graphics.getWidth(), 1);
+        shapeRenderer.setColor(BORDER_COLOR);
+        shapeRenderer.rect(0, Constants.CONTROL_AREA_HEIGHT - 3, viewport.getWorldWidth(), 1);
         shapeRenderer.end();
     }
 
+    /**
+     * Sets up the controls for the ship of the session
+     * @param shipId    The ship type chosen on login
+     */
+    public void setShip(int shipId) {
+        control.setBigShip(shipId != SMALL_SHIP);
+    }
+
     public BattleControlComponent getBnavComponent() {
         return control;
     }
@@ -1,6 +1,7 @@
 package com.benberi.cadesim.input;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputProcessor;
 import com.benberi.cadesim.GameContext;
 import com.benberi.cadesim.game.scene.GameScene;
@@ -16,6 +17,11 @@ public class GameInputProcessor implements InputProcessor {
 
     @Override
     public boolean keyDown(int keycode) {
+        Gdx.graphics.requestRendering();
+        if (keycode == Input.Keys.F3 && context.isReady()) {
+            context.getBattleScene().getPerformanceOverlay().toggle();
+            return true;
+        }
         return false;
     }
 
@@ -31,6 +37,7 @@ public class GameInputProcessor implements InputProcessor {
 
     @Override
     public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        Gdx.graphics.requestRendering();
         for (GameScene scene : context.getScenes()) {
             if (scene.handleClick(screenX, screenY, button)) {
                 break;
@@ -42,6 +49,7 @@ public class GameInputProcessor implements InputProcessor {
 
     @Override
     public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        Gdx.graphics.requestRendering();
         for (GameScene scene : context.getScenes()) {
             if (scene.handleClickRelease(screenX, screenY, button)) {
                 break;
@@ -52,6 +60,7 @@ public class GameInputProcessor implements InputProcessor {
 
     @Override
     public boolean touchDragged(int screenX, int screenY, int pointer) {
+        Gdx.graphics.requestRendering();
         float x = Gdx.input.getDeltaX();
         float y = Gdx.input.getDeltaY();
         for (GameScene scene : context.getScenes()) {
@@ -65,6 +74,7 @@ public class GameInputProcessor implements InputProcessor {
 
     @Override
     public boolean mouseMoved(int screenX, int screenY) {
+        Gdx.graphics.requestRendering();
         for (GameScene scene : context.getScenes()) {
             if (scene.handleMouseMove(screenX, screenY)) {
                 break;
@@ -75,6 +85,12 @@ public class GameInputProcessor implements InputProcessor {
 
     @Override
     public boolean scrolled(int amount) {
+        Gdx.graphics.requestRendering();
+        for (GameScene scene : context.getScenes()) {
+            if (scene.handleScroll(Gdx.input.getX(), Gdx.input.getY(), amount)) {
+                return true;
+            }
+        }
         return false;
     }
 }
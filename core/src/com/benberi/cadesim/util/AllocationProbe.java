@@ -0,0 +1,123 @@
+package com.benberi.cadesim.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the heap allocated by the render thread for each frame, see {@link com.benberi.cadesim.Constants#ALLOCATION_DEBUG}
+ *
+ * Uses the per-thread allocation counter of the HotSpot thread bean, the probe does nothing on
+ * virtual machines without it. With a number of frames to check, the probe finishes after them
+ * and passes only if none went over the budget, so a scripted run can fail on a regression.
+ */
+public class AllocationProbe {
+
+    /**
+     * Frames to skip before checking, while classes load and pools fill up
+     */
+    private static final int WARMUP_FRAMES = 300;
+
+    /**
+     * The thread bean, <code>null</code> if allocation counting is not available
+     */
+    private com.sun.management.ThreadMXBean bean;
+
+    /**
+     * The allowed allocated bytes per frame
+     */
+    private long budget;
+
+    /**
+     * The number of frames to check after the warmup, 0 to keep reporting
+     */
+    private int checkFrames;
+
+    /**
+     * The number of checked frames that allocated more than the budget
+     */
+    private int exceededFrames;
+
+    private long threadId;
+
+    private long frameStart;
+
+    private int frames;
+
+    /**
+     * The most bytes allocated by a single frame after the warmup
+     */
+    private long worst;
+
+    /**
+     * @param budget        The allowed allocated bytes per frame
+     * @param checkFrames   The number of frames to check after the warmup, 0 to keep reporting
+     */
+    public AllocationProbe(long budget, int checkFrames) {
+        this.budget = budget;
+        this.checkFrames = checkFrames;
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threads;
+            if (bean.isThreadAllocatedMemorySupported()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+                this.bean = bean;
+            }
+        }
+        if (this.bean == null) {
+            System.err.println("Allocation probe not supported by this virtual machine");
+        }
+    }
+
+    /**
+     * Starts measuring a frame, on the render thread
+     */
+    public void beginFrame() {
+        if (bean == null) {
+            return;
+        }
+        threadId = Thread.currentThread().getId();
+        frameStart = bean.getThreadAllocatedBytes(threadId);
+    }
+
+    /**
+     * Ends measuring a frame, reporting it if it allocated more than the budget
+     */
+    public void endFrame() {
+        if (bean == null) {
+            return;
+        }
+        long allocated = bean.getThreadAllocatedBytes(threadId) - frameStart;
+        frames++;
+        if (frames <= WARMUP_FRAMES) {
+            return;
+        }
+        if (allocated > budget) {
+            exceededFrames++;
+            System.err.println("Frame " + frames + " allocated " + allocated + " bytes, the budget is " + budget + " bytes");
+        }
+        if (allocated > worst) {
+            worst = allocated;
+        }
+    }
+
+    /**
+     * If all frames to check were measured, always <code>true</code> when checking is not supported
+     */
+    public boolean isFinished() {
+        return checkFrames > 0 && (bean == null || frames >= WARMUP_FRAMES + checkFrames);
+    }
+
+    /**
+     * If allocations could be measured and no checked frame went over the budget
+     */
+    public boolean hasPassed() {
+        return bean != null && exceededFrames == 0;
+    }
+
+    /**
+     * Gets the most bytes allocated by a single frame after the warmup
+     */
+    public long getWorstFrame() {
+        return worst;
+    }
+}
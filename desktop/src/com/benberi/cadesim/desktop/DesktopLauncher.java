@@ -3,13 +3,62 @@ package com.benberi.cadesim.desktop;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
 import com.benberi.cadesim.BlockadeSimulator;
+import com.benberi.cadesim.Constants;
+import com.benberi.cadesim.desktop.tools.FontBaker;
 
 public class DesktopLauncher {
+
+	/**
+	 * Launch option setting {@link Constants#RENDER_SCALE}, e.g. --render-scale=0.5
+	 */
+	private static final String RENDER_SCALE_OPTION = "--render-scale=";
+
+	/**
+	 * Launch option checking the allocations of that many battle frames and exiting with a non-zero
+	 * status if one went over {@link Constants#ALLOCATION_BUDGET}, e.g. --allocation-check=600
+	 */
+	private static final String ALLOCATION_CHECK_OPTION = "--allocation-check=";
+
+	/**
+	 * Launch option setting {@link Constants#ALLOCATION_BUDGET} in bytes, e.g. --allocation-budget=256
+	 */
+	private static final String ALLOCATION_BUDGET_OPTION = "--allocation-budget=";
+
 	public static void main (String[] arg) {
+		for (String option : arg) {
+			if (option.startsWith(RENDER_SCALE_OPTION)) {
+				try {
+					Constants.RENDER_SCALE = Float.parseFloat(option.substring(RENDER_SCALE_OPTION.length()));
+				} catch (NumberFormatException e) {
+					System.err.println("Invalid render scale: " + option);
+				}
+			}
+			else if (option.startsWith(ALLOCATION_CHECK_OPTION)) {
+				try {
+					Constants.ALLOCATION_CHECK_FRAMES = Integer.parseInt(option.substring(ALLOCATION_CHECK_OPTION.length()));
+					Constants.ALLOCATION_DEBUG = true;
+				} catch (NumberFormatException e) {
+					System.err.println("Invalid allocation check: " + option);
+				}
+			}
+			else if (option.startsWith(ALLOCATION_BUDGET_OPTION)) {
+				try {
+					Constants.ALLOCATION_BUDGET = Long.parseLong(option.substring(ALLOCATION_BUDGET_OPTION.length()));
+				} catch (NumberFormatException e) {
+					System.err.println("Invalid allocation budget: " + option);
+				}
+			}
+		}
+
+		// rasterizing the fonts takes a large part of the startup, so they are baked once and loaded afterwards
+		FontBaker.bakeMissing();
+
 		LwjglApplicationConfiguration config = new LwjglApplicationConfiguration();
-		config.resizable = false;
+		config.resizable = true;
 		config.width = 750;
 		config.height = 700;
+		// redraw at most 10 times per second while the window is not focused
+		config.backgroundFPS = 10;
 		new LwjglApplication(new BlockadeSimulator(), config);
 	}
 }
@@ -0,0 +1,146 @@
+package com.benberi.cadesim.desktop.tools;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import com.benberi.cadesim.game.scene.TextureCollection;
+import com.benberi.cadesim.game.scene.impl.battle.map.tile.GameTile;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.Arrays;
+
+/**
+ * Packs the battle and interface sprites into texture atlases, run by the packTextures task
+ *
+ * Regions are named by their path in the assets directory without the extension, e.g. "sea/cell".
+ * Whitespace stripping and rotation are off, so code cutting frames out of a region by pixel
+ * offsets keeps working on the packed region. The white shapes tinted by the batch color are drawn
+ * here too, named "shapes/...", so overlays share the texture of the sprites around them.
+ */
+public class AtlasPacker {
+
+	/**
+	 * The sea tiles drawn from the battle atlas, the other sea textures repeat and stay separate
+	 */
+	private static final String[] SEA_TILES = {
+			"cell", "safezone", "wind", "whirl", "rocks_big", "rocks_small"
+	};
+
+	private static final int WHITE = 0xffffffff;
+
+	public static void main(String[] args) {
+		File assets = new File(TextureCollection.ASSETS_DIRECTORY);
+		File output = new File(TextureCollection.ATLAS_DIRECTORY);
+
+		// drawn zoomed out too, so mipmapped with padding against bleeding between regions
+		TexturePacker.Settings battleSettings = createSettings();
+		battleSettings.filterMin = Texture.TextureFilter.MipMapLinearNearest;
+		battleSettings.filterMag = Texture.TextureFilter.Nearest;
+		TexturePacker battle = new TexturePacker(assets, battleSettings);
+		addDirectory(battle, new File(assets, "effects"));
+		addDirectory(battle, new File(assets, "projectile"));
+		addDirectory(battle, new File(assets, "cade"));
+		for (String tile : SEA_TILES) {
+			battle.addImage(new File(assets, "sea/" + tile + ".png"));
+		}
+		battle.addImage(createPixel(), TextureCollection.PIXEL_REGION);
+		battle.addImage(createOutline(), TextureCollection.OUTLINE_REGION);
+		for (float radius : TextureCollection.INFLUENCE_RADII) {
+			battle.addImage(createInfluenceRing(radius), TextureCollection.getInfluenceRingRegion(radius));
+		}
+		battle.pack(output, TextureCollection.BATTLE_ATLAS);
+
+		TexturePacker.Settings uiSettings = createSettings();
+		TexturePacker ui = new TexturePacker(assets, uiSettings);
+		addDirectory(ui, new File(assets, "ui"));
+		addDirectory(ui, new File(assets, "skin"));
+		addDirectory(ui, new File(assets, "skin/ships"));
+		// the connect screen draws its loading bar before the battle atlas is loaded
+		ui.addImage(createPixel(), TextureCollection.PIXEL_REGION);
+		ui.pack(output, TextureCollection.UI_ATLAS);
+	}
+
+	private static TexturePacker.Settings createSettings() {
+		TexturePacker.Settings settings = new TexturePacker.Settings();
+		settings.maxWidth = 2048;
+		settings.maxHeight = 2048;
+		settings.paddingX = 4;
+		settings.paddingY = 4;
+		settings.duplicatePadding = true;
+		settings.stripWhitespaceX = false;
+		settings.stripWhitespaceY = false;
+		settings.rotation = false;
+		settings.useIndexes = false;
+		settings.combineSubdirectories = false;
+		return settings;
+	}
+
+	/**
+	 * Adds the PNGs of a directory, not of its subdirectories
+	 */
+	private static void addDirectory(TexturePacker packer, File directory) {
+		File[] files = directory.listFiles();
+		if (files == null) {
+			throw new IllegalArgumentException("Missing texture directory " + directory);
+		}
+		// in a fixed order, so packing again gives the same atlas
+		Arrays.sort(files);
+		for (File file : files) {
+			if (file.isFile() && file.getName().endsWith(".png")) {
+				packer.addImage(file);
+			}
+		}
+	}
+
+	/**
+	 * A single white pixel, for filled rectangles
+	 */
+	private static BufferedImage createPixel() {
+		BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+		image.setRGB(0, 0, WHITE);
+		return image;
+	}
+
+	/**
+	 * A white one pixel frame around a transparent pixel, the nine-patch of rectangle outlines
+	 */
+	private static BufferedImage createOutline() {
+		BufferedImage image = new BufferedImage(3, 3, BufferedImage.TYPE_INT_ARGB);
+		for (int x = 0; x < 3; x++) {
+			for (int y = 0; y < 3; y++) {
+				if (x != 1 || y != 1) {
+					image.setRGB(x, y, WHITE);
+				}
+			}
+		}
+		return image;
+	}
+
+	/**
+	 * Rasterizes the five one pixel ellipses around a vessel, growing by one pixel each
+	 */
+	private static BufferedImage createInfluenceRing(float radius) {
+		int baseWidth = (int) (radius * GameTile.TILE_WIDTH);
+		int baseHeight = (int) (radius * GameTile.TILE_HEIGHT);
+		BufferedImage image = new BufferedImage(baseWidth + 6, baseHeight + 6, BufferedImage.TYPE_INT_ARGB);
+
+		float centerX = image.getWidth() / 2f;
+		float centerY = image.getHeight() / 2f;
+		for (int x = 0; x < image.getWidth(); x++) {
+			for (int y = 0; y < image.getHeight(); y++) {
+				float dx = x + 0.5f - centerX;
+				float dy = y + 0.5f - centerY;
+				for (int i = 0; i < 5; i++) {
+					float a = (baseWidth + i) / 2f;
+					float b = (baseHeight + i) / 2f;
+					float distance = (float) Math.sqrt((dx * dx) / (a * a) + (dy * dy) / (b * b));
+					if (Math.abs(distance - 1) * Math.min(a, b) < 0.5f) {
+						image.setRGB(x, y, WHITE);
+						break;
+					}
+				}
+			}
+		}
+		return image;
+	}
+}
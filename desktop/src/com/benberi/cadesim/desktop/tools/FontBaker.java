@@ -0,0 +1,100 @@
+package com.benberi.cadesim.desktop.tools;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.benberi.cadesim.game.scene.GameFont;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rasterizes every {@link GameFont} once and writes it as a .fnt file with its pages, see {@link GameFont#getBakedPath()}
+ *
+ * Run by the bakeFonts task to bake all fonts again, and by the launcher before the game starts to
+ * bake the fonts missing on first run. Each font file is opened once for all of its variants.
+ */
+public class FontBaker {
+
+	/**
+	 * The size of the font pages
+	 */
+	private static final int PAGE_SIZE = 512;
+
+	public static void main(String[] args) {
+		GdxNativesLoader.load();
+		bake(true);
+	}
+
+	/**
+	 * Bakes the fonts that are not baked yet, the game generates them at load time if this fails
+	 */
+	public static void bakeMissing() {
+		try {
+			GdxNativesLoader.load();
+			bake(false);
+		} catch (Exception e) {
+			System.err.println("Could not bake the fonts, generating them at load time: " + e.getMessage());
+		}
+	}
+
+	private static void bake(boolean all) {
+		Map<String, List<GameFont>> files = new LinkedHashMap<String, List<GameFont>>();
+		for (GameFont font : GameFont.values()) {
+			if (!all && new FileHandle(font.getBakedPath()).exists()) {
+				continue;
+			}
+			List<GameFont> fonts = files.get(font.getFile());
+			if (fonts == null) {
+				fonts = new ArrayList<GameFont>();
+				files.put(font.getFile(), fonts);
+			}
+			fonts.add(font);
+		}
+
+		for (Map.Entry<String, List<GameFont>> file : files.entrySet()) {
+			FreeTypeFontGenerator generator = new FreeTypeFontGenerator(new FileHandle(file.getKey()));
+			try {
+				for (GameFont font : file.getValue()) {
+					bake(generator, font);
+				}
+			} finally {
+				generator.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Deletes the files of the font baked with other parameters
+	 */
+	private static void deleteStale(GameFont font, FileHandle baked) {
+		for (FileHandle file : baked.parent().list()) {
+			if (file.name().startsWith(font.getKey() + "-") && !file.name().startsWith(baked.nameWithoutExtension())) {
+				file.delete();
+			}
+		}
+	}
+
+	private static void bake(FreeTypeFontGenerator generator, GameFont font) {
+		PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 2, false);
+		FreeTypeFontParameter parameter = font.createParameter();
+		parameter.packer = packer;
+		FreeTypeFontGenerator.FreeTypeBitmapFontData data = generator.generateData(parameter);
+
+		FileHandle file = new FileHandle(font.getBakedPath());
+		file.parent().mkdirs();
+		String[] pages = BitmapFontWriter.writePixmaps(packer.getPages(), file.parent(), file.nameWithoutExtension());
+		BitmapFontWriter.FontInfo info = new BitmapFontWriter.FontInfo(font.getKey(), parameter.size);
+		BitmapFontWriter.writeFont(data, pages, file, info, PAGE_SIZE, PAGE_SIZE);
+
+		packer.dispose();
+		deleteStale(font, file);
+		System.out.println(font.getFile() + " " + parameter.size + " -> " + file.path());
+	}
+}
@@ -0,0 +1,79 @@
+package com.benberi.cadesim.desktop.tools;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.tools.ktx.KTXProcessor;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.benberi.cadesim.game.scene.TextureCollection;
+import com.benberi.cadesim.game.scene.TextureGroup;
+
+import java.io.File;
+
+/**
+ * Converts the PNGs of the compressed texture groups to ETC1 KTX files and their masks, run by the compressTextures task
+ *
+ * ETC1 has no alpha channel and is lossy, which would break the exact team color key of the vessel
+ * spritesheets, so each sheet gets a luminance alpha mask holding its alpha and where the key is.
+ */
+public class TextureCompressor {
+
+	public static void main(String[] args) throws Exception {
+		GdxNativesLoader.load();
+
+		int converted = 0;
+		for (TextureGroup group : TextureGroup.values()) {
+			if (!group.isCompressed()) {
+				continue;
+			}
+			converted += compressDirectory(new File(group.getDirectory()));
+		}
+		System.out.println("Compressed " + converted + " textures to " + TextureCollection.COMPRESSED_DIRECTORY);
+	}
+
+	private static int compressDirectory(File directory) throws Exception {
+		File[] files = directory.listFiles();
+		if (files == null) {
+			System.err.println("Missing texture directory " + directory);
+			return 0;
+		}
+		int converted = 0;
+		for (File file : files) {
+			if (file.isDirectory()) {
+				converted += compressDirectory(file);
+			}
+			else if (file.getName().endsWith(".png")) {
+				compress(file.getPath().replace(File.separatorChar, '/'));
+				converted++;
+			}
+		}
+		return converted;
+	}
+
+	/**
+	 * Writes the ETC1 KTX file with mipmaps and the mask of a PNG
+	 * @param path	The PNG path, in the assets directory
+	 */
+	private static void compress(String path) throws Exception {
+		FileHandle compressed = new FileHandle(TextureCollection.getCompressedPath(path));
+		compressed.parent().mkdirs();
+		KTXProcessor.convert(path, compressed.path(), true, true, false);
+
+		Pixmap source = new Pixmap(new FileHandle(path));
+		Pixmap mask = new Pixmap(source.getWidth(), source.getHeight(), Pixmap.Format.LuminanceAlpha);
+		mask.setBlending(Pixmap.Blending.None);
+		for (int x = 0; x < source.getWidth(); x++) {
+			for (int y = 0; y < source.getHeight(); y++) {
+				int color = source.getPixel(x, y);
+				int key = color == TextureCollection.TEAM_KEY_COLOR ? 0xff : 0;
+				// RGBA8888, converted to luminance alpha by the pixmap
+				mask.drawPixel(x, y, (key << 24) | (key << 16) | (key << 8) | (color & 0xff));
+			}
+		}
+		PixmapIO.writeCIM(new FileHandle(TextureCollection.getMaskPath(path)), mask);
+
+		mask.dispose();
+		source.dispose();
+		System.out.println(path + " -> " + compressed.path());
+	}
+}